@@ -0,0 +1,127 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: GameOfLifeModelBenchmark Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   JMH benchmarks for the Game of Life side of CAModel, using its own int[][] code (no
+	   engine): stepping with recalcGameState / advanceGameState, the per cell neighbor count,
+	   and making a random board.
+
+******/
+
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class GameOfLifeModelBenchmark {
+
+	private static final MethodHandle NEW_MODEL = Handles.constructor("CAModel", int.class, int.class, int.class);
+	private static final MethodHandle SET_LIFE_RULE = Handles.method("CAModel", "setLifeRule", void.class, Handles.type("LifeRule"));
+	private static final MethodHandle PARSE_RULE = Handles.staticMethod("LifeRule", "parse", Handles.type("LifeRule"), String.class);
+	private static final MethodHandle SET_INITIAL_BOARD = Handles.method("CAModel", "setInitialGOLBoard", void.class, int[][].class);
+	private static final MethodHandle GET_CURRENT_BOARD = Handles.method("CAModel", "getCurrentGOLBoard", int[][].class);
+	private static final MethodHandle RECALC_GAME_STATE = Handles.method("CAModel", "recalcGameState", int[][].class);
+	private static final MethodHandle ADVANCE_GAME_STATE = Handles.method("CAModel", "advanceGameState", void.class);
+	private static final MethodHandle CALC_2D_DENSITY = Handles.method("CAModel", "calc2DDensity", int.class, int.class, int.class);
+	private static final MethodHandle RANDOMIZE_BOARD = Handles.method("CAModel", "randomizeBoard", void.class);
+
+	// board size as rows x cols (120x80 is the GUI's), chance of each cell starting alive, and the rule
+	@Param({ "120x80", "512x512", "2048x2048" })
+	public String boardSize;
+
+	@Param({ "0.067", "0.35" })
+	public double density;
+
+	@Param({ "B3/S123", "B3/S23", "B36/S23" })
+	public String rule;
+
+	private int rows;
+	private int cols;
+	private Object model;
+
+
+	/**
+	 * Builds a model with a random board (rebuilt every iteration, so boards which die out or settle
+	 * down don't make later iterations look faster)
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() throws Throwable {
+
+		String[] dims = boardSize.split("x");
+		rows = Integer.parseInt(dims[0]);
+		cols = Integer.parseInt(dims[1]);
+
+		model = (Object) NEW_MODEL.invokeExact(2, rows, cols);
+		SET_LIFE_RULE.invokeExact(model, (Object) PARSE_RULE.invokeExact((Object) rule));
+		SET_INITIAL_BOARD.invokeExact(model, (Object) Handles.randomBoard(rows, cols, density, 42L));
+	}
+
+
+	/**
+	 * One generation with CAModel.recalcGameState(), allocating a new board each time
+	 */
+	@Benchmark
+	public Object recalcGameState() throws Throwable {
+		return (Object) RECALC_GAME_STATE.invokeExact(model);
+	}
+
+
+	/**
+	 * One generation with CAModel.advanceGameState(), into preallocated boards (as the animation runs it)
+	 */
+	@Benchmark
+	public void advanceGameState() throws Throwable {
+		ADVANCE_GAME_STATE.invokeExact(model);
+		SET_INITIAL_BOARD.invokeExact(model, (Object) GET_CURRENT_BOARD.invokeExact(model));
+	}
+
+
+	/**
+	 * CAModel.calc2DDensity() for every interior cell of the board
+	 */
+	@Benchmark
+	public int calc2DDensity() throws Throwable {
+		int total = 0;
+		for(int i = 1; i < rows - 1; i++) {
+			for(int j = 1; j < cols - 1; j++) {
+				total += (int) CALC_2D_DENSITY.invokeExact(model, i, j);
+			}
+		}
+		return total;
+	}
+
+
+	/**
+	 * Making a new random board with CAModel.randomizeBoard()
+	 */
+	@Benchmark
+	public void randomizeBoard() throws Throwable {
+		RANDOMIZE_BOARD.invokeExact(model);
+	}
+
+}
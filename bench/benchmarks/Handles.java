@@ -0,0 +1,145 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: Handles Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   JMH won't run benchmarks in the default package, and a class in a named package can't
+	   import the default package classes the program is written in. So the benchmarks reach
+	   them through method handles, looked up by name here. Every reference type in a handle
+	   is erased to Object (e.g., a CAModel or an int[][] is passed & returned as Object), so
+	   call them with invokeExact and Object arguments. Kept in static final fields, the JIT
+	   treats a handle as a constant and calls through it like a normal method call.
+
+******/
+
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+
+final class Handles {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+
+	/**
+	 * Private constructor, this class only has static helpers
+	 */
+	private Handles() {
+	}
+
+
+	/**
+	 * A method to load one of the program's classes by name
+	 *
+	 * @param className - String, e.g. "CAModel"
+	 * @return Class - the class
+	 */
+	static Class<?> type(String className) {
+		try {
+			return Class.forName(className);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Couldn't find class " + className, e);
+		}
+	}
+
+
+	/**
+	 * A method to get a handle for a public constructor
+	 *
+	 * @param className - String, the class to construct
+	 * @param params - the constructor's parameter types
+	 * @return MethodHandle - (params...) -> Object
+	 */
+	static MethodHandle constructor(String className, Class<?>... params) {
+		try {
+			MethodHandle handle = LOOKUP.findConstructor(type(className), MethodType.methodType(void.class, params));
+			return handle.asType(handle.type().erase());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Couldn't find a constructor for " + className, e);
+		}
+	}
+
+
+	/**
+	 * A method to get a handle for a public instance method (interface methods too)
+	 *
+	 * @param className - String, the class or interface the method is declared in
+	 * @param name - String, the method name
+	 * @param returnType - the method's return type
+	 * @param params - the method's parameter types
+	 * @return MethodHandle - (Object receiver, params...) -> return type, references erased to Object
+	 */
+	static MethodHandle method(String className, String name, Class<?> returnType, Class<?>... params) {
+		try {
+			MethodHandle handle = LOOKUP.findVirtual(type(className), name, MethodType.methodType(returnType, params));
+			return handle.asType(handle.type().erase());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Couldn't find " + className + "." + name, e);
+		}
+	}
+
+
+	/**
+	 * A method to get a handle for a public static method
+	 *
+	 * @param className - String, the class the method is declared in
+	 * @param name - String, the method name
+	 * @param returnType - the method's return type
+	 * @param params - the method's parameter types
+	 * @return MethodHandle - (params...) -> return type, references erased to Object
+	 */
+	static MethodHandle staticMethod(String className, String name, Class<?> returnType, Class<?>... params) {
+		try {
+			MethodHandle handle = LOOKUP.findStatic(type(className), name, MethodType.methodType(returnType, params));
+			return handle.asType(handle.type().erase());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Couldn't find " + className + "." + name, e);
+		}
+	}
+
+
+	/**
+	 * A method to get one of an enum's constants by name
+	 *
+	 * @param className - String, the enum, e.g. "BoundaryMode"
+	 * @param constant - String, the constant, e.g. "TORUS"
+	 * @return Object - the constant
+	 */
+	static Object enumConstant(String className, String constant) {
+		for(Object value : type(className).getEnumConstants()) {
+			if(((Enum<?>) value).name().equals(constant)) {
+				return value;
+			}
+		}
+		throw new IllegalStateException(className + " has no constant " + constant);
+	}
+
+
+	/**
+	 * A method to build a random 0 / 1 board
+	 *
+	 * @param rows - integer, number of rows
+	 * @param cols - integer, number of columns
+	 * @param density - double, chance of each cell being alive
+	 * @param seed - long, seed for the random number generator
+	 * @return int[][] - the board
+	 */
+	static int[][] randomBoard(int rows, int cols, double density, long seed) {
+		java.util.Random rand = new java.util.Random(seed);
+		int[][] board = new int[rows][cols];
+		for(int[] row : board) {
+			for(int j = 0; j < cols; j++) {
+				row[j] = (rand.nextDouble() < density) ? 1 : 0;
+			}
+		}
+		return board;
+	}
+
+}
@@ -0,0 +1,149 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: LifeEngineBenchmark Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   JMH benchmarks for every Game of Life stepping engine (every LifeEngine), on the same
+	   random boards, sizes and rules, so they can be compared with each other and with the
+	   model's own int[][] path in GameOfLifeModelBenchmark. Engines are stepped directly, so
+	   copying the board in & out isn't timed. The engine is made by name, like BatchRunner's
+	   --engine option.
+
+	   Note: a HashLife step is one generation here (step size 2^0), which is its worst case.
+	   Its speed comes from jumping far ahead, for that use --engine=hashlife in BatchRunner.
+
+******/
+
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class LifeEngineBenchmark {
+
+	private static final MethodHandle LOAD = Handles.method("LifeEngine", "load", void.class, int[][].class);
+	private static final MethodHandle STEP = Handles.method("LifeEngine", "step", void.class);
+	private static final MethodHandle SET_RULE = Handles.method("LifeEngine", "setRule", void.class, Handles.type("LifeRule"));
+	private static final MethodHandle PARSE_RULE = Handles.staticMethod("LifeRule", "parse", Handles.type("LifeRule"), String.class);
+
+	private static final MethodHandle NEW_BIT_PACKED = Handles.constructor("BitPackedLife");
+	private static final MethodHandle NEW_PARALLEL = Handles.constructor("ParallelLife", int.class);
+	private static final MethodHandle PARALLEL_SHUTDOWN = Handles.method("ParallelLife", "shutdown", void.class);
+	private static final MethodHandle NEW_ACTIVE = Handles.constructor("ActiveCellLife");
+	private static final MethodHandle NEW_HASH_LIFE = Handles.constructor("HashLife");
+	private static final MethodHandle HASH_LIFE_STEP_LOG2 = Handles.method("HashLife", "setStepLog2", void.class, int.class);
+	private static final MethodHandle NEW_HALO = Handles.constructor("HaloLife", Handles.type("BoundaryMode"));
+	private static final MethodHandle NEW_GENERATIONS = Handles.constructor("GenerationsLife", Handles.type("BoundaryMode"));
+	private static final Object TORUS = Handles.enumConstant("BoundaryMode", "TORUS");
+
+	// the engine, board size as rows x cols (120x80 is the GUI's), chance of each cell starting alive, and the rule
+	@Param({ "bitpacked", "parallel", "active", "vector", "hashlife", "halo", "generations" })
+	public String engine;
+
+	@Param({ "120x80", "512x512", "2048x2048" })
+	public String boardSize;
+
+	@Param({ "0.067", "0.35" })
+	public double density;
+
+	@Param({ "B3/S123", "B3/S23" })
+	public String rule;
+
+	// threads for the parallel engine
+	@Param({ "4" })
+	public int threads;
+
+	private Object lifeEngine;
+
+
+	/**
+	 * Builds the engine and loads a random board (rebuilt every iteration, so boards which die out or
+	 * settle down don't make later iterations look faster)
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() throws Throwable {
+
+		String[] dims = boardSize.split("x");
+		int rows = Integer.parseInt(dims[0]);
+		int cols = Integer.parseInt(dims[1]);
+
+		lifeEngine = newEngine();
+		SET_RULE.invokeExact(lifeEngine, (Object) PARSE_RULE.invokeExact((Object) rule));
+		LOAD.invokeExact(lifeEngine, (Object) Handles.randomBoard(rows, cols, density, 42L));
+	}
+
+
+	/**
+	 * Shuts down the parallel engine's threads
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() throws Throwable {
+		if(engine.equals("parallel")) {
+			PARALLEL_SHUTDOWN.invokeExact(lifeEngine);
+		}
+	}
+
+
+	/**
+	 * One generation with the engine
+	 */
+	@Benchmark
+	public void step() throws Throwable {
+		STEP.invokeExact(lifeEngine);
+	}
+
+
+	/**
+	 * Helper method to make the engine named by the engine parameter
+	 */
+	private Object newEngine() throws Throwable {
+
+		switch(engine) {
+		case "bitpacked":
+			return (Object) NEW_BIT_PACKED.invokeExact();
+		case "parallel":
+			return (Object) NEW_PARALLEL.invokeExact(threads);
+		case "active":
+			return (Object) NEW_ACTIVE.invokeExact();
+		case "vector":
+			// looked up here rather than up front, so the other engines still run without the vector module
+			return Handles.constructor("VectorLife").invoke();
+		case "hashlife":
+			Object hashLife = (Object) NEW_HASH_LIFE.invokeExact();
+			HASH_LIFE_STEP_LOG2.invokeExact(hashLife, 0);
+			return hashLife;
+		case "halo":
+			return (Object) NEW_HALO.invokeExact(TORUS);
+		case "generations":
+			return (Object) NEW_GENERATIONS.invokeExact(TORUS);
+		default:
+			throw new IllegalArgumentException("Unknown engine: " + engine);
+		}
+	}
+
+}
@@ -0,0 +1,138 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: SimpleModelBenchmark Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   JMH benchmarks for the simple (1D) CA side of CAModel, and the 1D stepping engines:
+	   the scalar int[] path (recalcState / advanceState) and the bit packed engine. The
+	   bit packed engine is stepped directly, like BatchRunner does, so unpacking isn't timed.
+
+******/
+
+package benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class SimpleModelBenchmark {
+
+	private static final MethodHandle NEW_MODEL = Handles.constructor("CAModel", int.class, int.class, int.class);
+	private static final MethodHandle SET_RULE = Handles.method("CAModel", "setRule", void.class, int.class);
+	private static final MethodHandle SET_SEED = Handles.method("CAModel", "setSeed", void.class, long.class);
+	private static final MethodHandle RANDOMIZE_STATE = Handles.method("CAModel", "randomizeState", void.class);
+	private static final MethodHandle GET_STATE = Handles.method("CAModel", "getState", int[].class);
+	private static final MethodHandle RECALC_STATE = Handles.method("CAModel", "recalcState", int[].class);
+	private static final MethodHandle ADVANCE_STATE = Handles.method("CAModel", "advanceState", void.class);
+
+	private static final MethodHandle NEW_BIT_PACKED = Handles.constructor("BitPackedCA", int.class);
+	private static final MethodHandle BIT_PACKED_SET_RULE = Handles.method("BitPackedCA", "setRule", void.class, Handles.type("ElementaryRule"));
+	private static final MethodHandle BIT_PACKED_LOAD = Handles.method("BitPackedCA", "load", void.class, int[].class);
+	private static final MethodHandle BIT_PACKED_THREADS = Handles.method("BitPackedCA", "setThreads", void.class, int.class);
+	private static final MethodHandle BIT_PACKED_STEP = Handles.method("BitPackedCA", "step", void.class);
+	private static final MethodHandle BIT_PACKED_SHUTDOWN = Handles.method("BitPackedCA", "shutdown", void.class);
+	private static final MethodHandle RULE_FOR_NUMBER = Handles.staticMethod("ElementaryRule", "forNumber", Handles.type("ElementaryRule"), int.class);
+
+	// lattice width (156 is the GUI's), and the rule number
+	@Param({ "156", "10000", "1000000" })
+	public int width;
+
+	@Param({ "30", "90", "110" })
+	public int ruleNumber;
+
+	// threads for the bit packed engine (only splits lattices of 2^18+ cells)
+	@Param({ "1" })
+	public int threads;
+
+	private Object model;
+	private Object bitPacked;
+
+
+	/**
+	 * Builds a model & bit packed engine from the same random row (rebuilt every iteration, so rules
+	 * which die out don't make later iterations look faster)
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() throws Throwable {
+
+		model = (Object) NEW_MODEL.invokeExact(width, 3, 3);
+		SET_RULE.invokeExact(model, ruleNumber);
+		SET_SEED.invokeExact(model, 42L);
+		RANDOMIZE_STATE.invokeExact(model);
+
+		bitPacked = (Object) NEW_BIT_PACKED.invokeExact(width);
+		BIT_PACKED_SET_RULE.invokeExact(bitPacked, (Object) RULE_FOR_NUMBER.invokeExact(ruleNumber));
+		BIT_PACKED_THREADS.invokeExact(bitPacked, threads);
+		BIT_PACKED_LOAD.invokeExact(bitPacked, (Object) GET_STATE.invokeExact(model));
+	}
+
+
+	/**
+	 * Shuts down the bit packed engine's threads (if it has any)
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() throws Throwable {
+		BIT_PACKED_SHUTDOWN.invokeExact(bitPacked);
+	}
+
+
+	/**
+	 * One generation with CAModel.recalcState(), allocating a new state each time
+	 */
+	@Benchmark
+	public Object recalcState() throws Throwable {
+		return (Object) RECALC_STATE.invokeExact(model);
+	}
+
+
+	/**
+	 * One generation with CAModel.advanceState(), into preallocated buffers
+	 */
+	@Benchmark
+	public void advanceState() throws Throwable {
+		ADVANCE_STATE.invokeExact(model);
+	}
+
+
+	/**
+	 * One generation with the bit packed engine (64 cells per operation)
+	 */
+	@Benchmark
+	public void bitPackedStep() throws Throwable {
+		BIT_PACKED_STEP.invokeExact(bitPacked);
+	}
+
+
+	/**
+	 * Switching rules with CAModel.setRule()
+	 */
+	@Benchmark
+	public void setRule() throws Throwable {
+		SET_RULE.invokeExact(model, ruleNumber);
+	}
+
+}
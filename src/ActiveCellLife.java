@@ -0,0 +1,271 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: ActiveCellLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a Game of Life engine that only looks at cells which could change. A
+	   cell can only change if it, or one of its neighbors, changed in the last generation,
+	   so each step re-evaluates just the cells that changed last time (and their neighbors).
+	   After the board settles down, a generation costs next to nothing no matter how big
+	   the board is. The list of cells that changed is kept so that the display can redraw
+	   only those cells. Like CAModel.recalcGameState(), border cells never change.
+
+	   Note: decaying cells of a Generations rule change every generation on their own, so
+	   they stay in the changed list until they're back to 0.
+
+******/
+
+
+public class ActiveCellLife implements LifeEngine {
+
+	// board dimensions, and the board itself (0 = "dead"; 1 = "alive"; 2 and up = decaying)
+	private int numRows;
+	private int numCols;
+	private int[][] cells;
+
+	// cells that changed in the last step, stored as (row * numCols) + col, and how many there are
+	private int[] changed;
+	private int changedCount;
+
+	// buffer for the cells changing in the step being worked out (swapped with changed after each step),
+	// and the state each of them changes to
+	private int[] changing;
+	private int[] changingStates;
+
+	// cells to look at this step, and the step each cell was last added to the list (so none are added twice)
+	private int[] candidates;
+	private int[] stamps;
+	private int stamp;
+
+	// true right after a board is loaded, when every cell has to be looked at
+	private boolean fullScan;
+
+	// the rule's lookup table, entry (state * 9) + neighbors is the new state
+	private byte[] ruleTable;
+
+
+	/**
+	 * No argument constructor, the board is sized when one is loaded
+	 */
+	public ActiveCellLife() {
+		this.numRows = 0;
+		this.numCols = 0;
+		this.ruleTable = LifeRule.CLASSIC.getTable();
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board (copied), the next step will look at every cell
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int rows = board.length;
+		int cols = board[0].length;
+
+		if(rows != numRows || cols != numCols) {
+			this.numRows = rows;
+			this.numCols = cols;
+			this.cells = new int[rows][cols];
+			this.changed = new int[rows * cols];
+			this.changing = new int[rows * cols];
+			this.changingStates = new int[rows * cols];
+			this.candidates = new int[rows * cols];
+			this.stamps = new int[rows * cols];
+			this.stamp = 0;
+		}
+
+		for(int i = 0; i < rows; i++) {
+			System.arraycopy(board[i], 0, cells[i], 0, cols);
+		}
+		this.changedCount = 0;
+		this.fullScan = true;
+	}
+
+
+	/**
+	 * A method to write the current board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		for(int i = 0; i < numRows; i++) {
+			System.arraycopy(cells[i], 0, board[i], 0, numCols);
+		}
+	}
+
+
+	/**
+	 * A method to bring a board that was one generation behind up to date, by flipping only the
+	 * cells that changed in the last step (rather than copying the whole board)
+	 *
+	 * @param board - a 2D array of integers holding the generation before the current one
+	 */
+	public void applyChangesTo(int[][] board) {
+		for(int k = 0; k < changedCount; k++) {
+			int index = changed[k];
+			int i = index / numCols;
+			int j = index - (i * numCols);
+			board[i][j] = cells[i][j];
+		}
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation
+	 */
+	@Override
+	public void step() {
+
+		int numCandidates = collectCandidates();
+		int numChanging = 0;
+
+		// work out which candidates change, using only the old board
+		for(int k = 0; k < numCandidates; k++) {
+
+			int index = candidates[k];
+			int i = index / numCols;
+			int j = index - (i * numCols);
+
+			int[] above = cells[i - 1];
+			int[] row = cells[i];
+			int[] below = cells[i + 1];
+			int neighbors = live(above[j - 1]) + live(above[j]) + live(above[j + 1])
+					+ live(row[j - 1]) + live(row[j + 1])
+					+ live(below[j - 1]) + live(below[j]) + live(below[j + 1]);
+
+			int newState = ruleTable[(row[j] * 9) + neighbors] & 0xFF;
+			if(newState != row[j]) {
+				changingStates[numChanging] = newState;
+				changing[numChanging++] = index;
+			}
+		}
+
+		// then change them all
+		for(int k = 0; k < numChanging; k++) {
+			int index = changing[k];
+			int i = index / numCols;
+			int j = index - (i * numCols);
+			cells[i][j] = changingStates[k];
+		}
+
+		// the cells that just changed are the ones to look around next step
+		int[] temp = changed;
+		this.changed = changing;
+		this.changing = temp;
+		this.changedCount = numChanging;
+		this.fullScan = false;
+
+	}
+
+
+	/**
+	 * Helper method to fill the candidates list: every interior cell after a load, otherwise the
+	 * interior cells in the 3x3 neighborhood of each cell that changed in the last step
+	 *
+	 * @return int - the number of candidates
+	 */
+	private int collectCandidates() {
+
+		int count = 0;
+
+		if(fullScan) {
+			for(int i = 1; i < numRows - 1; i++) {
+				for(int j = 1; j < numCols - 1; j++) {
+					candidates[count++] = (i * numCols) + j;
+				}
+			}
+			return count;
+		}
+
+		// new stamp for this step, wrapping around means old stamps could match again so clear them
+		stamp++;
+		if(stamp == 0) {
+			java.util.Arrays.fill(stamps, 0);
+			stamp = 1;
+		}
+
+		for(int k = 0; k < changedCount; k++) {
+
+			int index = changed[k];
+			int ci = index / numCols;
+			int cj = index - (ci * numCols);
+
+			// neighborhood, clamped to the interior (border cells never change)
+			int iStart = Math.max(ci - 1, 1);
+			int iEnd = Math.min(ci + 1, numRows - 2);
+			int jStart = Math.max(cj - 1, 1);
+			int jEnd = Math.min(cj + 1, numCols - 2);
+
+			for(int i = iStart; i <= iEnd; i++) {
+				for(int j = jStart; j <= jEnd; j++) {
+					int n = (i * numCols) + j;
+					if(stamps[n] != stamp) {
+						stamps[n] = stamp;
+						candidates[count++] = n;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+
+	/**
+	 * Helper method to count a cell as a live neighbor, only state 1 is alive (decaying Generations states aren't)
+	 */
+	private static int live(int state) {
+		return (state == 1) ? 1 : 0;
+	}
+
+
+	/**
+	 * A method to set the rule. Cells that were settled under the old rule may not be under the new one,
+	 * so the next step looks at every cell again.
+	 *
+	 * @param rule - the compiled LifeRule to step with, Generations rules (more than 2 states) are fine too
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+		this.ruleTable = rule.getTable();
+		this.fullScan = true;
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the cells that changed in the last step, each stored as (row * numCols) + col.
+	 * Only the first getChangedCount() entries are valid.
+	 *
+	 * @return int[] - changed cell indexes, not a copy
+	 */
+	public int[] getChangedCells() {
+		return this.changed;
+	}
+
+
+	/**
+	 * Getter for the number of cells that changed in the last step
+	 *
+	 * @return int - number of valid entries in getChangedCells()
+	 */
+	public int getChangedCount() {
+		return this.changedCount;
+	}
+
+}
@@ -0,0 +1,776 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: BatchRunner Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class runs a simulation from the command line, with no view (no Swing classes are
+	   ever loaded, so it works on headless machines). It builds a board, runs it as fast as
+	   it can for a number of generations, and reports the throughput, peak heap use, and a
+	   hash of the final state (so runs on different engines or machines can be compared).
+
+	   Usage: java Driver --mode=gol --size=2048x2048 --seed=42 --generations=1000 --engine=bitpacked
+
+	   Options (all --name=value):
+	   		mode - "1d" (simple CA) or "gol" (Game of Life), default gol
+	   		size - 1d: width, e.g. 100000; gol: rows x cols, e.g. 1024x1024 (a single number is square)
+	   		seed - seed for the random board (1d starts from a random row when given, otherwise one live cell)
+	   		generations - number of generations to run, default 1000
+	   		warmup - generations to run (untimed) before the timed run, default 0
+	   		engine - 1d: scalar, bitpacked; gol: scalar, bitpacked, parallel, active, vector, hashlife, halo,
+	   				 generations (default scalar)
+	   		rule - 1d: rule number (0 - 255, default 30); gol: B/S notation, e.g. B3/S23 (default classic)
+	   		threads - threads for the bitpacked 1d & parallel gol engines, default all cores
+	   		boundary - edges for the halo & generations engines: torus, dead or reflect, default torus
+	   		at - 1d only: report the state at this generation instead, stepping only until the run repeats
+	   			 and indexing into the cycle after that (generations & warmup are ignored)
+	   		max-steps - 1d with --at only: most generations to step looking for the cycle, default 1000000
+	   		export - file to record every timed generation to (see FrameExporter): an animated GIF if it
+	   				 ends in .gif, RGB raw frames if it ends in .rgb, raw palette indices otherwise. Cells
+	   				 are white (dead), black (live) or gray (decaying), and 1d frames show the newest rows.
+	   		scale - pixels per cell each way when exporting, default 1
+	   		pattern - gol only: an RLE or plaintext (.cells) file to start from instead of a random board,
+	   				  its rule is used unless --rule is given
+	   		offset - where the pattern's top left cell goes, row,col (e.g., 40,60), default 0,0
+	   		save - gol only: an RLE file to write the final board to
+	   		spacetime - 1d only: file to record every timed generation to, bit packed & memory-mapped (see
+	   					SpacetimeRecorder), for reading back any generation & range of cells later
+
+******/
+
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+public class BatchRunner {
+
+	// FNV-1a constants, used to hash the final state
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	// rows in each exported 1d frame, GIF frame delay (hundredths of a second), and frames exporting can fall behind by
+	private static final int exportRows = 100;
+	private static final int exportDelay = 5;
+	private static final int exportQueueSize = 8;
+
+	// most generations --at steps looking for a cycle, unless --max-steps says otherwise
+	private static final long defaultMaxSteps = 1000000;
+
+
+	/**
+	 * Main method, runs one simulation with the given options & prints a report
+	 *
+	 * @param args - command line options, see the class description
+	 */
+	public static void main(String[] args) {
+
+		Map<String, String> options;
+		try {
+			options = parseOptions(args);
+			String mode = options.getOrDefault("mode", "gol");
+			if(mode.equals("1d")) {
+				runSimple(options);
+			} else if(mode.equals("gol")) {
+				runGameOfLife(options);
+			} else {
+				throw new IllegalArgumentException("Unknown mode \"" + mode + "\", use 1d or gol");
+			}
+		} catch(IllegalArgumentException e) {
+			System.err.println("Error: " + e.getMessage());
+			System.err.println("Usage: java Driver --mode=1d|gol --size=N|RxC --seed=S --generations=G --engine=NAME "
+					+ "[--rule=R] [--warmup=W] [--threads=T] [--boundary=torus|dead|reflect] [--at=N] [--max-steps=M] [--export=FILE] [--scale=S] "
+					+ "[--pattern=FILE] [--offset=R,C] [--save=FILE] [--spacetime=FILE]");
+			System.exit(2);
+		}
+	}
+
+
+	// ------------------------------------ Simple CA Runs ----------------------------------------- //
+
+
+	/**
+	 * A method to run the simple (1D) CA
+	 *
+	 * @param options - the parsed command line options
+	 */
+	private static void runSimple(Map<String, String> options) {
+
+		int width = parseInt(options, "size", 100000);
+		int generations = parseInt(options, "generations", 1000);
+		int warmup = parseInt(options, "warmup", 0);
+		int ruleNum = parseInt(options, "rule", 30);
+		int threads = parseInt(options, "threads", Runtime.getRuntime().availableProcessors());
+		String engine = options.getOrDefault("engine", "scalar");
+
+		if(width < 2) {
+			throw new IllegalArgumentException("Width must be at least 2, got " + width);
+		}
+
+		CAModel model = new CAModel(width, 3, 3);
+		model.setRule(ruleNum);
+		if(options.containsKey("seed")) {
+			model.setSeed(parseLong(options, "seed", 0));
+			model.randomizeState();
+		}
+
+		if(options.containsKey("at")) {
+			runSimpleAt(options, model, width, engine, threads);
+			return;
+		}
+
+		int[] finalState;
+		long nanos;
+		FrameExporter exporter = startExport(options, width, exportRows, 2);
+		SpacetimeRecorder spacetime = startSpacetime(options, width);
+		resetPeakHeap();
+
+		if(engine.equals("scalar")) {
+			for(int g = 0; g < warmup; g++) {
+				model.advanceState();
+			}
+			long start = System.nanoTime();
+			if(spacetime != null) {
+				// the model records the current state, then every state it calculates
+				try {
+					model.setSpacetimeRecorder(spacetime);
+				} catch(IOException e) {
+					spacetimeFailed(options, e);
+				}
+			}
+			exportRow(exporter, model.getState());
+			for(int g = 0; g < generations; g++) {
+				model.advanceState();
+				exportRow(exporter, model.getState());
+			}
+			nanos = System.nanoTime() - start;
+			finalState = model.getState();
+
+		} else if(engine.equals("bitpacked")) {
+			// step the packed lattice directly, it's only unpacked once at the end
+			BitPackedCA packed = new BitPackedCA(width);
+			packed.setRule(model.getRule());
+			packed.setThreads(threads);
+			packed.load(model.getState());
+			for(int g = 0; g < warmup; g++) {
+				packed.step();
+			}
+			int[] row = (exporter != null) ? new int[width] : null;
+			long start = System.nanoTime();
+			if(exporter != null) {
+				packed.writeTo(row);
+				exporter.addRow(row);
+			}
+			recordWords(spacetime, packed.getWords(), options);
+			for(int g = 0; g < generations; g++) {
+				packed.step();
+				if(exporter != null) {
+					packed.writeTo(row);
+					exporter.addRow(row);
+				}
+				recordWords(spacetime, packed.getWords(), options);
+			}
+			nanos = System.nanoTime() - start;
+			finalState = packed.toIntArray();
+			packed.shutdown();
+
+		} else {
+			throw new IllegalArgumentException("Unknown 1d engine \"" + engine + "\", use scalar or bitpacked");
+		}
+
+		long hash = FNV_OFFSET;
+		long population = 0;
+		for(int cell : finalState) {
+			hash = (hash ^ cell) * FNV_PRIME;
+			population += cell;
+		}
+
+		report("1d", engine, String.valueOf(width), options, "Rule " + ruleNum, generations, (long) width, nanos, population, hash);
+		finishExport(exporter, options);
+		finishSpacetime(spacetime, options);
+	}
+
+
+	/**
+	 * A method to find the simple CA's state at one (possibly huge) generation, by stepping until the run
+	 * repeats and then indexing into the cycle rather than simulating the rest (see SimpleCycleFinder)
+	 */
+	private static void runSimpleAt(Map<String, String> options, CAModel model, int width, String engine, int threads) {
+
+		long at = parseLong(options, "at", 0);
+		if(at < 0) {
+			throw new IllegalArgumentException("--at must be 0 or more, got " + at);
+		}
+		long maxSteps = parseLong(options, "max-steps", defaultMaxSteps);
+		if(maxSteps < 0) {
+			throw new IllegalArgumentException("--max-steps must be 0 or more, got " + maxSteps);
+		}
+
+		SimpleCycleFinder finder = new SimpleCycleFinder(width);
+		int[] initialState = model.getState().clone();
+		int[] finalState = new int[width];
+		long steps = Math.min(at, maxSteps);
+		long simulated = 0;
+		resetPeakHeap();
+		long start = System.nanoTime();
+
+		if(engine.equals("scalar")) {
+			finder.observe(0, model.getState());
+			while(simulated < steps && !finder.isCycleFound()) {
+				model.advanceState();
+				simulated++;
+				finder.observe(simulated, model.getState());
+			}
+			System.arraycopy(model.getState(), 0, finalState, 0, width);
+
+		} else if(engine.equals("bitpacked")) {
+			BitPackedCA packed = new BitPackedCA(width);
+			packed.setRule(model.getRule());
+			packed.setThreads(threads);
+			packed.load(model.getState());
+			finder.observe(0, packed.getWords());
+			while(simulated < steps && !finder.isCycleFound()) {
+				packed.step();
+				simulated++;
+				finder.observe(simulated, packed.getWords());
+			}
+			packed.writeTo(finalState);
+			packed.shutdown();
+
+		} else {
+			throw new IllegalArgumentException("Unknown 1d engine \"" + engine + "\", use scalar or bitpacked");
+		}
+
+		if(!finder.isCycleFound() && simulated < at) {
+			System.err.println("Error: no cycle found in " + simulated + " generations (--max-steps), so generation " + at
+					+ " would have to be simulated; raise --max-steps to keep looking");
+			System.exit(1);
+		}
+
+		// the rest of the way is just an index into the cycle
+		long transientLength = -1;
+		if(finder.isCycleFound()) {
+			finder.writeState(at, finalState);
+			transientLength = finder.getTransientLength();
+			if(transientLength < 0) {
+				transientLength = findTransient(initialState, model.getRule(), finder.getPeriod(), threads);
+			}
+		}
+		long nanos = System.nanoTime() - start;
+
+		long hash = FNV_OFFSET;
+		long population = 0;
+		for(int cell : finalState) {
+			hash = (hash ^ cell) * FNV_PRIME;
+			population += cell;
+		}
+
+		report("1d", engine, String.valueOf(width), options, "Rule " + model.getRule().getNumber(), simulated, (long) width, nanos,
+				population, hash);
+		System.out.println("at generation:     " + at);
+		if(finder.isCycleFound()) {
+			System.out.println("transient:         " + transientLength);
+			System.out.println("period:            " + finder.getPeriod());
+		} else {
+			System.out.println("cycle:             none found by generation " + simulated);
+		}
+	}
+
+
+	/**
+	 * A method to find where a simple CA run's cycle really starts, when it's further back than the cycle
+	 * finder's rows reach: two copies of the run are stepped a period apart until they match
+	 *
+	 * @param initialState - integer array, the state at generation 0
+	 * @param rule - ElementaryRule the run uses
+	 * @param period - long, the cycle's period
+	 * @param threads - integer, threads to step with
+	 * @return long - the transient length, the first generation that's the same a period later
+	 */
+	private static long findTransient(int[] initialState, ElementaryRule rule, long period, int threads) {
+
+		BitPackedCA behind = new BitPackedCA(initialState.length);
+		BitPackedCA ahead = new BitPackedCA(initialState.length);
+		for(BitPackedCA packed : new BitPackedCA[] { behind, ahead }) {
+			packed.setRule(rule);
+			packed.setThreads(threads);
+			packed.load(initialState);
+		}
+		for(long g = 0; g < period; g++) {
+			ahead.step();
+		}
+
+		long generation = 0;
+		while(!Arrays.equals(behind.getWords(), ahead.getWords())) {
+			behind.step();
+			ahead.step();
+			generation++;
+		}
+		behind.shutdown();
+		ahead.shutdown();
+		return generation;
+	}
+
+
+	// --------------------------------- Game of Life Runs ----------------------------------------- //
+
+
+	/**
+	 * A method to run the Game of Life
+	 *
+	 * @param options - the parsed command line options
+	 */
+	private static void runGameOfLife(Map<String, String> options) {
+
+		String size = options.getOrDefault("size", "120x80");
+		String[] dims = size.toLowerCase().split("x");
+		int rows;
+		int cols;
+		try {
+			rows = Integer.parseInt(dims[0].trim());
+			cols = (dims.length > 1) ? Integer.parseInt(dims[1].trim()) : rows;
+		} catch(NumberFormatException nfe) {
+			throw new IllegalArgumentException("Size must look like 1024x1024, got \"" + size + "\"");
+		}
+		if(rows < 3 || cols < 3 || dims.length > 2) {
+			throw new IllegalArgumentException("Board must be at least 3x3, got \"" + size + "\"");
+		}
+
+		int generations = parseInt(options, "generations", 1000);
+		int warmup = parseInt(options, "warmup", 0);
+		int threads = parseInt(options, "threads", Runtime.getRuntime().availableProcessors());
+		String engineName = options.getOrDefault("engine", "scalar");
+
+		// build the starting board with the model, a random one unless a pattern is given (which may give the rule)
+		CAModel model = new CAModel(2, rows, cols);
+		if(options.containsKey("pattern")) {
+			loadPattern(model, options);
+		} else {
+			model.setSeed(parseLong(options, "seed", 0));
+			model.randomizeBoard();
+		}
+		if(options.containsKey("rule")) {
+			model.setLifeRule(LifeRule.parse(options.get("rule")));
+		}
+		LifeRule rule = model.getLifeRule();
+
+		int[][] board;
+		long nanos;
+		FrameExporter exporter = startExport(options, cols, rows, rule.getNumStates());
+		resetPeakHeap();
+
+		if(engineName.equals("scalar")) {
+			for(int g = 0; g < warmup; g++) {
+				model.advanceGameState();
+				model.setInitialGOLBoard(model.getCurrentGOLBoard());
+			}
+			long start = System.nanoTime();
+			exportBoard(exporter, model.getInitialGOLBoard());
+			for(int g = 0; g < generations; g++) {
+				model.advanceGameState();
+				model.setInitialGOLBoard(model.getCurrentGOLBoard());
+				exportBoard(exporter, model.getCurrentGOLBoard());
+			}
+			nanos = System.nanoTime() - start;
+			board = model.getInitialGOLBoard();
+
+		} else {
+			// step the engine directly, so the board is only converted back to int[][] once at the end
+			LifeEngine engine = createEngine(engineName, options, threads);
+			engine.setRule(rule);
+			engine.load(model.getInitialGOLBoard());
+
+			board = new int[rows][cols];
+			runEngine(engine, warmup, null, board);
+			long start = System.nanoTime();
+			if(exporter != null) {
+				engine.writeTo(board);
+				exporter.addBoard(board);
+			}
+			runEngine(engine, generations, exporter, board);
+			nanos = System.nanoTime() - start;
+
+			engine.writeTo(board);
+			if(engine instanceof ParallelLife) {
+				((ParallelLife) engine).shutdown();
+			}
+		}
+
+		long hash = FNV_OFFSET;
+		long population = 0;
+		for(int[] row : board) {
+			for(int cell : row) {
+				hash = (hash ^ cell) * FNV_PRIME;
+				population += (cell == 1) ? 1 : 0;
+			}
+		}
+
+		report("gol", engineName, rows + "x" + cols, options, rule.toString(), generations, (long) rows * cols, nanos, population, hash);
+		finishExport(exporter, options);
+
+		if(options.containsKey("save")) {
+			model.setInitialGOLBoard(board);
+			try {
+				model.savePattern(Paths.get(options.get("save")));
+			} catch(IOException e) {
+				System.err.println("Error: can't write \"" + options.get("save") + "\": " + e.getMessage());
+				System.exit(1);
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to load the --pattern file into the model's board, at --offset
+	 */
+	private static void loadPattern(CAModel model, Map<String, String> options) {
+
+		String offset = options.getOrDefault("offset", "0,0");
+		String[] parts = offset.split(",");
+		int rowOffset;
+		int colOffset;
+		try {
+			rowOffset = Integer.parseInt(parts[0].trim());
+			colOffset = (parts.length > 1) ? Integer.parseInt(parts[1].trim()) : 0;
+		} catch(NumberFormatException nfe) {
+			throw new IllegalArgumentException("Offset must look like 40,60, got \"" + offset + "\"");
+		}
+
+		String path = options.get("pattern");
+		try {
+			PatternReader pattern = model.loadPattern(Paths.get(path), rowOffset, colOffset, true);
+			if(pattern.getClippedCells() > 0) {
+				System.err.println("Warning: " + pattern.getClippedCells() + " cells of the pattern are off the board");
+			}
+		} catch(IOException e) {
+			throw new IllegalArgumentException("Can't read \"" + path + "\": " + e.getMessage());
+		}
+	}
+
+
+	/**
+	 * Helper method to build a GOL engine by name
+	 */
+	private static LifeEngine createEngine(String name, Map<String, String> options, int threads) {
+
+		switch(name) {
+		case "bitpacked":
+			return new BitPackedLife();
+		case "parallel":
+			return new ParallelLife(threads);
+		case "active":
+			return new ActiveCellLife();
+		case "hashlife":
+			return new HashLife();
+		case "halo":
+			return new HaloLife(parseBoundary(options));
+		case "generations":
+			return new GenerationsLife(parseBoundary(options));
+		case "vector":
+			// loaded by name, as it needs the incubating vector module (see CAModel.setVectorEngine)
+			try {
+				return (LifeEngine) Class.forName("VectorLife").getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException | LinkageError e) {
+				throw new IllegalArgumentException("The vector engine needs --add-modules jdk.incubator.vector");
+			}
+		default:
+			throw new IllegalArgumentException("Unknown gol engine \"" + name + "\", use scalar, bitpacked, parallel, "
+					+ "active, vector, hashlife, halo or generations");
+		}
+	}
+
+
+	/**
+	 * Helper method to run an engine for a number of generations. HashLife jumps ahead in powers of 2
+	 * (one step per set bit of the count) unless every generation is exported, every other engine steps
+	 * one generation at a time.
+	 */
+	private static void runEngine(LifeEngine engine, int generations, FrameExporter exporter, int[][] board) {
+
+		if(exporter != null) {
+			if(engine instanceof HashLife) {
+				((HashLife) engine).setStepLog2(0);
+			}
+			for(int g = 0; g < generations; g++) {
+				engine.step();
+				engine.writeTo(board);
+				exporter.addBoard(board);
+			}
+			return;
+		}
+
+		if(engine instanceof HashLife) {
+			HashLife hashLife = (HashLife) engine;
+			for(int bit = 30; bit >= 0; bit--) {
+				if(((generations >>> bit) & 1) == 1) {
+					hashLife.setStepLog2(bit);
+					hashLife.step();
+				}
+			}
+			return;
+		}
+
+		for(int g = 0; g < generations; g++) {
+			engine.step();
+		}
+	}
+
+
+	// ------------------------------------- Export Methods ---------------------------------------- //
+
+
+	/**
+	 * Helper method to start exporting to the --export file, or null if there isn't one. Every frame is
+	 * waited for (rather than dropped), so the run goes no faster than they can be written.
+	 */
+	private static FrameExporter startExport(Map<String, String> options, int numCols, int numRows, int numStates) {
+
+		String path = options.get("export");
+		if(path == null) {
+			return null;
+		}
+
+		int scale = parseInt(options, "scale", 1);
+		FileOutputStream out;
+		try {
+			out = new FileOutputStream(path);
+		} catch(IOException e) {
+			throw new IllegalArgumentException("Can't write to \"" + path + "\": " + e.getMessage());
+		}
+
+		String name = path.toLowerCase();
+		FrameWriter writer;
+		if(name.endsWith(".gif")) {
+			writer = new GifWriter(out, exportDelay);
+		} else {
+			writer = new RawFrameWriter(out, name.endsWith(".rgb"));
+		}
+
+		FrameExporter exporter = new FrameExporter(writer, numCols, numRows, FrameExporter.grayPalette(numStates), scale,
+				exportQueueSize, false);
+		exporter.start();
+		return exporter;
+	}
+
+
+	/**
+	 * Helper method to export a 1d generation, if exporting
+	 */
+	private static void exportRow(FrameExporter exporter, int[] state) {
+		if(exporter != null) {
+			exporter.addRow(state);
+		}
+	}
+
+
+	/**
+	 * Helper method to export a gol generation, if exporting
+	 */
+	private static void exportBoard(FrameExporter exporter, int[][] board) {
+		if(exporter != null) {
+			exporter.addBoard(board);
+		}
+	}
+
+
+	/**
+	 * Helper method to wait for an export to be written out & report it, if exporting
+	 */
+	private static void finishExport(FrameExporter exporter, Map<String, String> options) {
+
+		if(exporter == null) {
+			return;
+		}
+
+		try {
+			exporter.close();
+		} catch(IOException e) {
+			System.err.println("Error: exporting to \"" + options.get("export") + "\" failed: " + e.getMessage());
+			System.exit(1);
+		}
+		System.out.println("exported frames:   " + exporter.getFramesWritten() + " to " + options.get("export"));
+	}
+
+
+	/**
+	 * Helper method to start recording 1d generations to the --spacetime file, or null if there isn't one
+	 */
+	private static SpacetimeRecorder startSpacetime(Map<String, String> options, int width) {
+
+		String path = options.get("spacetime");
+		if(path == null) {
+			return null;
+		}
+
+		try {
+			return new SpacetimeRecorder(Paths.get(path), width);
+		} catch(IOException e) {
+			throw new IllegalArgumentException("Can't write to \"" + path + "\": " + e.getMessage());
+		}
+	}
+
+
+	/**
+	 * Helper method to record a bit packed 1d generation, if recording
+	 */
+	private static void recordWords(SpacetimeRecorder spacetime, long[] words, Map<String, String> options) {
+		if(spacetime != null) {
+			try {
+				spacetime.append(words);
+			} catch(IOException e) {
+				spacetimeFailed(options, e);
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to write out a spacetime recording & report it, if recording
+	 */
+	private static void finishSpacetime(SpacetimeRecorder spacetime, Map<String, String> options) {
+
+		if(spacetime == null) {
+			return;
+		}
+
+		try {
+			spacetime.close();
+		} catch(IOException e) {
+			spacetimeFailed(options, e);
+		}
+		System.out.println("spacetime:         " + spacetime.getGenerations() + " generations to " + options.get("spacetime"));
+	}
+
+
+	/**
+	 * Helper method to give up when the spacetime recording can't be written
+	 */
+	private static void spacetimeFailed(Map<String, String> options, IOException e) {
+		System.err.println("Error: recording to \"" + options.get("spacetime") + "\" failed: " + e.getMessage());
+		System.exit(1);
+	}
+
+
+	// -------------------------------------- Helper Methods --------------------------------------- //
+
+
+	/**
+	 * Helper method to print the report for a run
+	 */
+	private static void report(String mode, String engine, String size, Map<String, String> options, String rule,
+			long generations, long cells, long nanos, long population, long hash) {
+
+		double seconds = Math.max(nanos, 1) / 1e9;
+
+		System.out.println("mode:              " + mode);
+		System.out.println("engine:            " + engine);
+		System.out.println("size:              " + size);
+		System.out.println("seed:              " + options.getOrDefault("seed", "none"));
+		System.out.println("rule:              " + rule);
+		System.out.println("generations:       " + generations);
+		System.out.printf("time:              %.3f s%n", seconds);
+		System.out.printf("generations/sec:   %.1f%n", generations / seconds);
+		System.out.printf("cell-updates/sec:  %.4g%n", (cells * (double) generations) / seconds);
+		System.out.printf("peak heap:         %.1f MB%n", peakHeap() / (1024.0 * 1024.0));
+		System.out.println("final population:  " + population);
+		System.out.printf("final hash:        %016x%n", hash);
+	}
+
+
+	/**
+	 * Helper method to reset the peak usage of every heap memory pool, so setup isn't counted
+	 */
+	private static void resetPeakHeap() {
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to add up the peak usage of every heap memory pool since the last reset
+	 */
+	private static long peakHeap() {
+		long total = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) {
+				total += pool.getPeakUsage().getUsed();
+			}
+		}
+		return total;
+	}
+
+
+	/**
+	 * Helper method to read the --name=value options into a map
+	 */
+	private static Map<String, String> parseOptions(String[] args) {
+
+		Map<String, String> options = new HashMap<String, String>();
+		for(String arg : args) {
+			int equals = arg.indexOf('=');
+			if(!arg.startsWith("--") || equals < 0) {
+				throw new IllegalArgumentException("Options must look like --name=value, got \"" + arg + "\"");
+			}
+			options.put(arg.substring(2, equals).toLowerCase(), arg.substring(equals + 1));
+		}
+		return options;
+	}
+
+
+	/**
+	 * Helper method to read an int option, or a default if it isn't given
+	 */
+	private static int parseInt(Map<String, String> options, String name, int defaultValue) {
+
+		long value = parseLong(options, name, defaultValue);
+		if(value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("--" + name + " must be " + Integer.MIN_VALUE + " - " + Integer.MAX_VALUE + ", got " + value);
+		}
+		return (int) value;
+	}
+
+
+	/**
+	 * Helper method to read a long option, or a default if it isn't given
+	 */
+	private static long parseLong(Map<String, String> options, String name, long defaultValue) {
+
+		String value = options.get(name);
+		if(value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch(NumberFormatException nfe) {
+			throw new IllegalArgumentException("--" + name + " must be a number, got \"" + value + "\"");
+		}
+	}
+
+
+	/**
+	 * Helper method to read the boundary option, torus if it isn't given
+	 */
+	private static BoundaryMode parseBoundary(Map<String, String> options) {
+
+		String value = options.getOrDefault("boundary", "torus");
+		try {
+			return BoundaryMode.valueOf(value.toUpperCase());
+		} catch(IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown boundary \"" + value + "\", use torus, dead or reflect");
+		}
+	}
+
+}
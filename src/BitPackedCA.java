@@ -0,0 +1,377 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: BitPackedCA Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is an alternative engine for the simple (elementary) CA rules. Instead
+	   of one int per cell, the lattice is stored as a bit set in an array of longs, so
+	   every bitwise operation advances 64 cells at once. The rule is turned into a small
+	   multiplexer of bitwise operations on the left-shifted, unshifted, and right-shifted
+	   words, and the lattice wraps around at both ends like CAModel's int[] version.
+
+	   For very wide lattices the words can be split into chunks that are stepped on
+	   separate threads (see setThreads). Each chunk reads one word past either end of its
+	   range from the old generation, which gives it the one cell halo it needs at its edges
+	   (the first & last chunks get theirs by wrapping around), so results are identical to
+	   stepping on one thread.
+
+******/
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+
+public class BitPackedCA {
+
+	// chunks smaller than this many words (2^18 cells) aren't worth handing to another thread
+	private static final int MIN_CHUNK_WORDS = 1 << 12;
+
+	/**
+	 * A piece of work done on a range of words, [fromWord, toWord)
+	 */
+	private interface ChunkJob {
+		void run(int fromWord, int toWord);
+	}
+
+	// number of cells in the lattice, and the number of 64 bit words needed to hold them
+	private final int width;
+	private final int numWords;
+
+	// number of cells used in the final word (1 - 64), and a mask to keep unused bits at 0
+	private final int lastBits;
+	private final long lastMask;
+
+	// current generation, and a preallocated buffer that the next generation is written into
+	private long[] cells;
+	private long[] next;
+
+	// one mask per rule index, either all 0s or all 1s, depending on what that index maps to
+	private final long[] ruleMasks;
+
+	// thread pool & number of chunks for parallel stepping (null / 1 when stepping on one thread)
+	private ExecutorService executor;
+	private int numChunks;
+
+	// one stepping task per chunk, built when the chunks change (in setThreads()) so that stepping doesn't create new ones each generation
+	private List<Callable<Void>> stepTasks;
+
+
+	/**
+	 * Constructor for the bit packed engine
+	 *
+	 * @param width - integer for the number of cells in the lattice
+	 */
+	public BitPackedCA(int width) {
+
+		this.width = width;
+		this.numWords = (width + 63) >>> 6;
+		this.lastBits = width - ((numWords - 1) << 6);
+		this.lastMask = (lastBits == 64) ? -1L : ((1L << lastBits) - 1);
+
+		this.cells = new long[numWords];
+		this.next = new long[numWords];
+		this.ruleMasks = new long[8];
+
+		this.executor = null;
+		this.numChunks = 1;
+		this.stepTasks = null;
+
+	}
+
+
+	// ---------------------------------- Rule & State Methods ----------------------------------- //
+
+
+	/**
+	 * A method to set the rule for this engine. Each of the rule's 8 table entries becomes a mask
+	 * of all 0s or all 1s, so this engine produces exactly the same rows as CAModel.recalcState().
+	 *
+	 * @param rule - the compiled ElementaryRule to use
+	 */
+	public void setRule(ElementaryRule rule) {
+		for(int i = 0; i < 8; i++) {
+			ruleMasks[i] = (rule.getNewState(i) == 1) ? -1L : 0L;
+		}
+	}
+
+
+	/**
+	 * A method to load an int[] state (0s and 1s) into the packed lattice
+	 *
+	 * @param state - integer array, must be the same length as this engine's width
+	 */
+	public void load(int[] state) {
+		if(executor == null) {
+			packWords(state, 0, numWords);
+		} else {
+			invokeChunks(buildChunkTasks((fromWord, toWord) -> packWords(state, fromWord, toWord)));
+		}
+	}
+
+
+	/**
+	 * Helper method to pack the cells of words [fromWord, toWord) from an int[] state
+	 */
+	private void packWords(int[] state, int fromWord, int toWord) {
+		for(int w = fromWord; w < toWord; w++) {
+			long word = 0L;
+			int base = w << 6;
+			int bits = Math.min(64, width - base);
+			for(int b = 0; b < bits; b++) {
+				if(state[base + b] == 1) {
+					word |= 1L << b;
+				}
+			}
+			cells[w] = word;
+		}
+	}
+
+
+	/**
+	 * A method to unpack the lattice into a provided int[] of 0s and 1s
+	 *
+	 * @param state - integer array to write into, must be the same length as this engine's width
+	 */
+	public void writeTo(int[] state) {
+		if(executor == null) {
+			unpackWords(state, 0, numWords);
+		} else {
+			invokeChunks(buildChunkTasks((fromWord, toWord) -> unpackWords(state, fromWord, toWord)));
+		}
+	}
+
+
+	/**
+	 * Helper method to unpack the cells of words [fromWord, toWord) into an int[] state
+	 */
+	private void unpackWords(int[] state, int fromWord, int toWord) {
+		int end = Math.min(width, toWord << 6);
+		for(int i = fromWord << 6; i < end; i++) {
+			state[i] = (int) ((cells[i >>> 6] >>> (i & 63)) & 1L);
+		}
+	}
+
+
+	/**
+	 * A method to unpack the lattice into a new int[] of 0s and 1s
+	 *
+	 * @return int[] - the current state of the lattice
+	 */
+	public int[] toIntArray() {
+		int[] state = new int[width];
+		writeTo(state);
+		return state;
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the lattice by one generation
+	 */
+	public void step() {
+
+		if(executor == null) {
+			stepWords(0, numWords);
+		} else {
+			invokeChunks(stepTasks);
+		}
+
+		// swap buffers so the new generation becomes current
+		long[] src = cells;
+		this.cells = next;
+		this.next = src;
+
+	}
+
+
+	/**
+	 * Calculates the next generation of words [fromWord, toWord) into the spare buffer. Only the old
+	 * generation is read, so separate ranges can be worked out on separate threads.
+	 */
+	private void stepWords(int fromWord, int toWord) {
+
+		long[] src = cells;
+		long[] dst = next;
+		int last = numWords - 1;
+
+		// the cells which wrap around: cell 0's left neighbor is the last cell, and the last
+		// cell's right neighbor is cell 0
+		long lastCell = (src[last] >>> (lastBits - 1)) & 1L;
+		long firstCell = src[0] & 1L;
+
+		for(int w = fromWord; w < toWord; w++) {
+
+			long center = src[w];
+
+			// bit i of "left" holds cell i's left neighbor, so shift up & carry in the top bit of the previous word
+			long carryIn = (w == 0) ? lastCell : (src[w - 1] >>> 63);
+			long left = (center << 1) | carryIn;
+
+			// bit i of "right" holds cell i's right neighbor, carry in the bottom bit of the next word
+			long right;
+			if(w == last) {
+				right = (center >>> 1) | (firstCell << (lastBits - 1));
+			} else {
+				right = (center >>> 1) | (src[w + 1] << 63);
+			}
+
+			dst[w] = applyRule(left, center, right);
+		}
+
+		// keep any unused bits in the final word cleared
+		if(toWord == numWords) {
+			dst[last] &= lastMask;
+		}
+	}
+
+
+	/**
+	 * Helper method to split the words into chunks, with a task running a job on each
+	 */
+	private List<Callable<Void>> buildChunkTasks(ChunkJob job) {
+
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(numChunks);
+		for(int c = 0; c < numChunks; c++) {
+			int fromWord = (int) (((long) numWords * c) / numChunks);
+			int toWord = (int) (((long) numWords * (c + 1)) / numChunks);
+			tasks.add(() -> {
+				job.run(fromWord, toWord);
+				return null;
+			});
+		}
+		return tasks;
+	}
+
+
+	/**
+	 * Helper method to run one task per chunk, in parallel. Returns once every chunk is done.
+	 */
+	private void invokeChunks(List<Callable<Void>> tasks) {
+		try {
+			List<Future<Void>> results = executor.invokeAll(tasks);
+			for(Future<Void> result : results) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for chunks to finish", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A chunk failed", e.getCause());
+		}
+	}
+
+
+	/**
+	 * A method to set how many threads to step with. The lattice is split into one chunk per thread,
+	 * (fewer if that would make chunks smaller than 2^18 cells), and 1 thread steps on the caller's thread.
+	 * 
+	 * @param numThreads - integer, the number of threads to use
+	 */
+	public void setThreads(int numThreads) {
+
+		shutdown();
+
+		int chunks = Math.max(1, Math.min(numThreads, numWords / MIN_CHUNK_WORDS));
+		if(chunks > 1) {
+			this.executor = new ForkJoinPool(chunks);
+			this.numChunks = chunks;
+			this.stepTasks = buildChunkTasks(this::stepWords);
+		}
+	}
+
+
+	/**
+	 * A method to shut down the thread pool used for parallel stepping (stepping carries on, on one thread)
+	 */
+	public void shutdown() {
+		if(executor != null) {
+			executor.shutdown();
+		}
+		this.executor = null;
+		this.numChunks = 1;
+		this.stepTasks = null;
+	}
+
+
+	/**
+	 * Applies the rule to 64 neighborhoods at once. The rule index is (left, center, right) read
+	 * as a 3 bit number, so we select between the 8 rule masks using a tree of multiplexers:
+	 * first on the right bit, then the center bit, then the left bit.
+	 *
+	 * @param left - long with each cell's left neighbor
+	 * @param center - long with each cell
+	 * @param right - long with each cell's right neighbor
+	 * @return long - the new state of all 64 cells
+	 */
+	private long applyRule(long left, long center, long right) {
+
+		long[] m = ruleMasks;
+
+		// select on the right bit (index bit 0)
+		long r0 = mux(m[0], m[1], right);
+		long r1 = mux(m[2], m[3], right);
+		long r2 = mux(m[4], m[5], right);
+		long r3 = mux(m[6], m[7], right);
+
+		// select on the center bit (index bit 1)
+		long c0 = mux(r0, r1, center);
+		long c1 = mux(r2, r3, center);
+
+		// select on the left bit (index bit 2)
+		return mux(c0, c1, left);
+	}
+
+
+	/**
+	 * Bitwise multiplexer, for each bit returns a's bit where select is 0, and b's bit where select is 1
+	 */
+	private static long mux(long a, long b, long select) {
+		return a ^ ((a ^ b) & select);
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the lattice width
+	 *
+	 * @return int - number of cells
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+
+	/**
+	 * Getter for the number of chunks the lattice is stepped in (1 when stepping on one thread)
+	 *
+	 * @return int - number of chunks
+	 */
+	public int getNumChunks() {
+		return this.numChunks;
+	}
+
+
+	/**
+	 * Getter for the packed words of the current generation (cell i is bit (i % 64) of word i / 64)
+	 *
+	 * @return long[] - the packed lattice, not a copy
+	 */
+	public long[] getWords() {
+		return this.cells;
+	}
+
+}
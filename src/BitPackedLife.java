@@ -0,0 +1,330 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: BitPackedLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a bit parallel (SWAR) engine for the Game of Life. Each row of the board
+	   is packed into longs, 64 cells per word. For every word we build the 8 neighbor words
+	   (shifted copies of the rows above, below, and the row itself), then add them up with
+	   bit-sliced full and half adders, so a single logical operation works on 64 cells. The
+	   rule's table (see LifeRule) is looked up from those sums with a tree of multiplexers.
+	   Like CAModel.recalcGameState(), the border rows and columns never change.
+
+******/
+
+
+public class BitPackedLife implements LifeEngine {
+
+	// board dimensions, and the number of 64 bit words used to store each row
+	private int numRows;
+	private int numCols;
+	private int wordsPerRow;
+
+	// current generation, and a preallocated buffer the next generation is written into (row major)
+	private long[] cells;
+	private long[] next;
+
+	// per word masks of the columns that are allowed to change (every column except the first & last)
+	private long[] interiorMasks;
+
+	// the rule's table as words of all 0s / all 1s: entry n is a dead cell's new state with n neighbors,
+	// and entry 9 + n is that XOR'd with a live cell's new state (so picking between them is one AND & XOR)
+	private long[] ruleWords;
+
+
+	/**
+	 * No argument constructor, the board is sized when one is loaded
+	 */
+	public BitPackedLife() {
+		this.numRows = 0;
+		this.numCols = 0;
+		setRule(LifeRule.CLASSIC);
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board into this engine, (re)sizing the packed storage if needed
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int rows = board.length;
+		int cols = board[0].length;
+
+		if(rows != numRows || cols != numCols) {
+			resize(rows, cols);
+		}
+
+		java.util.Arrays.fill(cells, 0L);
+
+		for(int i = 0; i < rows; i++) {
+			int base = i * wordsPerRow;
+			for(int j = 0; j < cols; j++) {
+				if(board[i][j] == 1) {
+					cells[base + (j >>> 6)] |= 1L << (j & 63);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * A method to write the current generation into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		for(int i = 0; i < numRows; i++) {
+			int base = i * wordsPerRow;
+			int[] row = board[i];
+			for(int j = 0; j < numCols; j++) {
+				row[j] = (int) ((cells[base + (j >>> 6)] >>> (j & 63)) & 1L);
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to allocate storage & masks for a board of the given dimensions
+	 */
+	private void resize(int rows, int cols) {
+
+		this.numRows = rows;
+		this.numCols = cols;
+		this.wordsPerRow = (cols + 63) >>> 6;
+		this.cells = new long[rows * wordsPerRow];
+		this.next = new long[rows * wordsPerRow];
+
+		// set bits for columns 1 to (cols - 2), these are the only columns that change
+		this.interiorMasks = new long[wordsPerRow];
+		for(int j = 1; j < cols - 1; j++) {
+			interiorMasks[j >>> 6] |= 1L << (j & 63);
+		}
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation
+	 */
+	@Override
+	public void step() {
+		stepRows(1, numRows - 1);
+		finishStep();
+	}
+
+
+	/**
+	 * Calculates the next generation for rows [fromRow, toRow) into the spare buffer. Rows only read the
+	 * current generation, so different row ranges can be worked out at the same time on different threads.
+	 * Once every interior row (1 to numRows - 2) is done, finishStep() makes the new generation current.
+	 *
+	 * @param fromRow - first row to calculate (at least 1)
+	 * @param toRow - one past the last row to calculate (at most numRows - 1)
+	 */
+	void stepRows(int fromRow, int toRow) {
+
+		long[] src = cells;
+		long[] dst = next;
+		int w = wordsPerRow;
+
+		for(int i = fromRow; i < toRow; i++) {
+
+			int above = (i - 1) * w;
+			int row = i * w;
+			int below = (i + 1) * w;
+
+			for(int k = 0; k < w; k++) {
+				long center = src[row + k];
+				long result = stepWord(src, above, row, below, k, w);
+
+				// only interior columns take the new value, border columns keep their old one
+				long mask = interiorMasks[k];
+				dst[row + k] = (result & mask) | (center & ~mask);
+			}
+		}
+	}
+
+
+	/**
+	 * Finishes a step started with stepRows(): copies over the border rows (these never change), and
+	 * swaps buffers so the new generation becomes current
+	 */
+	void finishStep() {
+
+		long[] src = cells;
+		long[] dst = next;
+		int w = wordsPerRow;
+
+		// the first & last rows are border rows, they're copied over as they are
+		System.arraycopy(src, 0, dst, 0, w);
+		System.arraycopy(src, (numRows - 1) * w, dst, (numRows - 1) * w, w);
+
+		this.cells = dst;
+		this.next = src;
+
+	}
+
+
+	/**
+	 * A method to set the rule, takes effect on the next step
+	 *
+	 * @param rule - the compiled LifeRule to step with, must have 2 states
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+
+		if(rule.getNumStates() != 2) {
+			throw new IllegalArgumentException("BitPackedLife only runs 2 state rules, got " + rule);
+		}
+
+		long[] words = new long[18];
+		for(int n = 0; n <= 8; n++) {
+			words[n] = (rule.getNewState(0, n) == 1) ? -1L : 0L;
+			words[9 + n] = (rule.getNewState(0, n) != rule.getNewState(1, n)) ? -1L : 0L;
+		}
+		this.ruleWords = words;
+	}
+
+
+	/**
+	 * Calculates the next state of the 64 cells in word k of a row
+	 *
+	 * @param src - the packed board
+	 * @param above - index of the first word of the row above
+	 * @param row - index of the first word of this row
+	 * @param below - index of the first word of the row below
+	 * @param k - which word of the row to calculate
+	 * @param w - words per row
+	 * @return long - the 64 new cell states
+	 */
+	private long stepWord(long[] src, int above, int row, int below, int k, int w) {
+
+		// the 8 neighbors of every cell in the word: left, center & right of the rows above and below,
+		// and left & right of this row (bit j of a "left" word holds the cell at column j - 1)
+		long a = src[above + k];
+		long c = src[row + k];
+		long b = src[below + k];
+
+		long aLeft = shiftLeft(src, above, k, a);
+		long aRight = shiftRight(src, above, k, w, a);
+		long cLeft = shiftLeft(src, row, k, c);
+		long cRight = shiftRight(src, row, k, w, c);
+		long bLeft = shiftLeft(src, below, k, b);
+		long bRight = shiftRight(src, below, k, w, b);
+
+		// bit-sliced addition of the 8 neighbor bits, 3 full adders & 1 half adder for the 1s place
+		long s1 = aLeft ^ a ^ aRight;
+		long c1 = (aLeft & a) | (aRight & (aLeft ^ a));
+		long s2 = cLeft ^ cRight ^ bLeft;
+		long c2 = (cLeft & cRight) | (bLeft & (cLeft ^ cRight));
+		long s3 = b ^ bRight;
+		long c3 = b & bRight;
+
+		long ones = s1 ^ s2 ^ s3;
+		long c4 = (s1 & s2) | (s3 & (s1 ^ s2));
+
+		// then add the four carries (each worth 2) for the 2s, 4s & 8s places
+		long t1 = c1 ^ c2 ^ c3;
+		long c5 = (c1 & c2) | (c3 & (c1 ^ c2));
+		long twos = t1 ^ c4;
+		long c6 = t1 & c4;
+		long fours = c5 ^ c6;
+		long eights = c5 & c6;
+
+		// look the sums up in the rule's table with a tree of multiplexers, like BitPackedCA does. First
+		// pick the dead or live entry for each count (0 - 8), using the cell itself
+		long[] m = ruleWords;
+		long n0 = m[0] ^ (m[9] & c);
+		long n1 = m[1] ^ (m[10] & c);
+		long n2 = m[2] ^ (m[11] & c);
+		long n3 = m[3] ^ (m[12] & c);
+		long n4 = m[4] ^ (m[13] & c);
+		long n5 = m[5] ^ (m[14] & c);
+		long n6 = m[6] ^ (m[15] & c);
+		long n7 = m[7] ^ (m[16] & c);
+		long n8 = m[8] ^ (m[17] & c);
+
+		// then select on the 1s, 2s & 4s places, and last the 8s place (only set for exactly 8 neighbors)
+		long p0 = mux(n0, n1, ones);
+		long p1 = mux(n2, n3, ones);
+		long p2 = mux(n4, n5, ones);
+		long p3 = mux(n6, n7, ones);
+		long q0 = mux(p0, p1, twos);
+		long q1 = mux(p2, p3, twos);
+		return mux(mux(q0, q1, fours), n8, eights);
+	}
+
+
+	/**
+	 * Bitwise multiplexer, for each bit returns a's bit where select is 0, and b's bit where select is 1
+	 */
+	private static long mux(long a, long b, long select) {
+		return a ^ ((a ^ b) & select);
+	}
+
+
+	/**
+	 * Returns the word with every cell's left neighbor (shifted up a bit, carrying in from the previous word)
+	 */
+	private static long shiftLeft(long[] src, int rowStart, int k, long word) {
+		long carry = (k > 0) ? (src[rowStart + k - 1] >>> 63) : 0L;
+		return (word << 1) | carry;
+	}
+
+
+	/**
+	 * Returns the word with every cell's right neighbor (shifted down a bit, carrying in from the next word)
+	 */
+	private static long shiftRight(long[] src, int rowStart, int k, int w, long word) {
+		long carry = (k < w - 1) ? (src[rowStart + k + 1] << 63) : 0L;
+		return (word >>> 1) | carry;
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of rows
+	 *
+	 * @return int - number of rows in the loaded board
+	 */
+	public int getNumRows() {
+		return this.numRows;
+	}
+
+
+	/**
+	 * Getter for the number of columns
+	 *
+	 * @return int - number of columns in the loaded board
+	 */
+	public int getNumCols() {
+		return this.numCols;
+	}
+
+
+	/**
+	 * Getter for the packed words of the current generation (cell (i, j) is bit (j % 64) of
+	 * word (i * wordsPerRow) + (j / 64))
+	 *
+	 * @return long[] - the packed board, not a copy
+	 */
+	public long[] getWords() {
+		return this.cells;
+	}
+
+}
@@ -0,0 +1,22 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: BoundaryMode Enum
+
+Date: 10/18/2026
+
+Notes / Enum Description: 
+	   This enum lists the ways a HaloGrid can fill the ring of cells around its edges
+	   before a step, i.e., what cells just off the board look like to cells on the edge.
+       
+******/
+
+
+public enum BoundaryMode {
+
+	TORUS, // edges wrap around, the cell off the right edge is the first cell of the same row, etc.
+	DEAD, // everything off the board is dead
+	REFLECT // edges act like mirrors, the cell off an edge is the same as the edge cell itself
+	
+}
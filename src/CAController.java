@@ -11,12 +11,44 @@ Notes / Class Description:
 	    	1) Controller - to require the methods we need the controller to handle
 	    	2) ActionListener - to handle what to do when a button is pressed in the view. 
 
+	   Button presses are handled on Swing's event thread, but the animations (and anything else
+	   that touches the model or draws) run on a SimulationScheduler's thread, so the buttons
+	   respond right away and nothing is polled or slept on while waiting for them.
+
+	   The simulation & frame rates are separate: while an animation runs, a LookaheadBuffer's
+	   thread computes generations ahead, and the scheduler draws a frame framesPerSecond times
+	   a second with however many generations are due by then (every one of them for the simple
+	   CA, just the latest for the GOL). In warp mode generations are computed as fast as
+	   they can be (for the GOL, as many as fit in a frame's time, per frame). Each GOL buffer
+	   also carries the cells that changed in the generations it covers (when the model keeps
+	   track of them, see CAModel.getGOLChangedCells()), so a frame only redraws those, however
+	   many generations it skips.
+
+	   Every generation computed is also recorded in a GenerationHistory, one for each animation,
+	   so either can be sought back to any generation still held (see seekSimpleRule() and
+	   seekGameOfLife()). Playing on from a past generation replaces the future that was recorded.
+
+	   The GOL board is hashed as it's stepped (see ZobristHash & CycleDetector), and once it
+	   settles into a cycle (still lifes, blinkers, etc.) the boards of one period are cached and
+	   replayed rather than stepping the model any further.
+
+	   The GOL's edges are either the model's fixed border, stepped by whatever engine the model
+	   was given, or wrap around as a torus, stepped by HaloLife (GenerationsLife for Generations
+	   rules). HaloLife doesn't keep track of changed cells, so with wrapping edges every frame
+	   redraws the whole board.
+
+	   Either animation can be recorded (see startRecording()): each frame drawn is also handed
+	   to a FrameExporter, which writes it out on its own thread, dropping frames rather than
+	   slowing the animation down if it can't keep up.
+
  ******/
 
 
 import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.util.Arrays;
 
 
 public class CAController implements Controller, ActionListener {
@@ -26,15 +58,98 @@ public class CAController implements Controller, ActionListener {
 	private final static int gameNumRows = CAView.gameNumRows;
 	private final static int gameNumCols = CAView.gameNumCols;
 
+	// colors are made once and shared, rather than a new Color for every cell drawn
+	private final static Color simpleCellColor = new Color(133, 118, 255);
+	private final static Color birthColor = new Color(255, 167, 50);
+	private final static Color deathColor = new Color(133, 29, 176);
+	private final static Color[] twoStatePalette = { Color.white, birthColor, deathColor, Color.black };
+
+	// the animation panel's background, for recording the simple CA's empty cells
+	private final static Color simpleBackgroundColor = new Color(28, 22, 120);
+
+	// each animation's original speed (one generation per 100 ms & 175 ms), and how many generations they compute ahead
+	private final static double simpleClassicRate = 1000.0 / 100;
+	private final static double gameClassicRate = 1000.0 / 175;
+	private final static int simpleLookaheadSize = 256;
+	private final static int gameLookaheadSize = 16;
+
+	// generations the rewind button goes back, and the number of simple CA rows on display (y = 0 to 660)
+	private final static int rewindGenerations = 10;
+	private final static int simpleVisibleRows = (660 / pixelDimension) + 1;
+
+	// longest GOL cycle whose boards are cached & replayed (longer ones carry on being stepped)
+	private final static int maxReplayPeriod = 64;
+
+	// frames a recording can fall behind by before they're dropped
+	private final static int recordingQueueSize = 8;
+
 	// the controller must have an instance of the model and the view
 	private CAModel caModel;
 	private CAView caView;
 
 	// other vars to store last selected data, and bools to help determine when to animate
-	private int lastSelectedRule;
-	private boolean startSimpleAnimation;
-	private boolean gameBoardGenerated;
-	private boolean startGameOfLife;
+	// (set from the event thread, read from the scheduler's)
+	private volatile int lastSelectedRule;
+	private volatile boolean startSimpleAnimation;
+	private volatile boolean gameBoardGenerated;
+	private volatile boolean startGameOfLife;
+
+	// the thread animations run on, each animation's frame, and the frame running now (null if none)
+	private SimulationScheduler scheduler;
+	private Runnable simpleFrame;
+	private Runnable gameFrame;
+	private Runnable runningFrame;
+
+	// target generations per second (0 for each animation's classic rate), frames per second, and warp mode
+	private volatile double generationsPerSecond;
+	private volatile int framesPerSecond;
+	private volatile boolean warp;
+
+	// whether the GOL's edges wrap around as a torus, and the engine the model had for its fixed border (set aside while they do)
+	private boolean wrapEdges;
+	private LifeEngine fixedEdgeEngine;
+
+	// generations computed ahead of the running animation (null if it isn't running), and generations due but not yet drawn
+	private LookaheadBuffer<int[]> simpleLookahead;
+	private LookaheadBuffer<GameBuffer> gameLookahead;
+	private double generationsDue;
+
+	// the last simple CA state & GOL board drawn, the model is rewound to these when an animation stops
+	private int[] drawnState;
+	private int[][] drawnBoard;
+
+	// past generations of each animation, and the generation on display
+	private GenerationHistory simpleHistory;
+	private GenerationHistory gameHistory;
+	private long simpleGeneration;
+	private long gameGeneration;
+
+	// finds when the GOL repeats, and the boards of one period once it does (null until then), from cycleStart on,
+	// with the cells that change going into each of them
+	private CycleDetector gameCycles;
+	private int[][][] cycleBoards;
+	private int[][] cycleChanges;
+	private long cycleStart;
+
+	// GOL cells drawn with a birth/death color last frame, cells changed since the last frame drawn, and the cells
+	// being redrawn (all stored as (row * gameNumCols) + col), and whether the next frame redraws every cell
+	private CellSet lastChangedCells;
+	private CellSet frameChanges;
+	private CellSet redrawnCells;
+	private boolean redrawAll;
+
+	// colors for drawing the GOL, indexed by (prior state * golPriorWeight) + current state, and the rule they're for
+	// (2 state rules color by the change from the prior state, Generations rules just by the current state)
+	private Color[] golPalette;
+	private int golPriorWeight;
+	private LifeRule golPaletteRule;
+
+	// what to record the next frames drawn with (null if not recording), the recording of the animation drawing
+	// them (null until its first frame), that animation's frame, and the GOL palette it was started with
+	private volatile FrameWriter recordingWriter;
+	private FrameExporter recording;
+	private Runnable recordedFrame;
+	private Color[] recordedPalette;
 
 
 	/**
@@ -52,6 +167,25 @@ public class CAController implements Controller, ActionListener {
 		this.startSimpleAnimation = false;
 		this.gameBoardGenerated = false;
 		this.startGameOfLife = false;
+		this.lastChangedCells = new CellSet(gameNumRows * gameNumCols);
+		this.frameChanges = new CellSet(gameNumRows * gameNumCols);
+		this.redrawnCells = new CellSet(gameNumRows * gameNumCols);
+		this.scheduler = new SimulationScheduler("CA animation", this::reportError);
+		this.simpleFrame = this::drawSimpleFrame;
+		this.gameFrame = this::drawGameFrame;
+		this.runningFrame = null;
+		this.generationsPerSecond = 0;
+		this.framesPerSecond = 30;
+		this.warp = false;
+		this.simpleHistory = new GenerationHistory(caModel.getState().length);
+		this.gameHistory = new GenerationHistory(gameNumRows * gameNumCols);
+		this.simpleGeneration = 0;
+		this.gameGeneration = 0;
+		this.gameCycles = new CycleDetector();
+		this.cycleBoards = null;
+
+		// the model hashes the GOL board as it steps, for finding cycles
+		caModel.setGOLHashing(true);
 
 		// important, upon construction call the view's set listeners method, giving
 		// the controller (this) as the action listener
@@ -64,61 +198,87 @@ public class CAController implements Controller, ActionListener {
 
 
 	/**
-	 * A method to loop until a choice is selected for animation
+	 * A method to await a choice from the menu. Buttons are handled as they're pressed (see actionPerformed()),
+	 * starting & stopping animations on the scheduler, so there's nothing to wait for here.
 	 */
 	public void choiceMenu() {
-
-		while(true) {
-			// animate simple CA rule if button selected
-			if(this.startSimpleAnimation == true) {
-				animateSimpleRule();
-			}
-
-			// animate GOL if button selected
-			if(this.startGameOfLife == true) {
-				animateGameOfLife();
-			}
-
-			// else sleep & await selection
-			sleep(100);
-		}
 	}
 
 
 	/**
-	 * This method animates the simple CA rules
+	 * This method starts animating the simple CA rules: generations are computed ahead on a LookaheadBuffer's thread,
+	 * and drawn as frames on the scheduler's thread
 	 */
 	@Override
 	public void animateSimpleRule() {
 
-		// If called prior to rule selection, wait until valid value selected
-		while(lastSelectedRule < 0) {
-			sleep(100);
+		// If called prior to rule selection, wait until valid value selected (saving a rule starts it)
+		if(lastSelectedRule < 0) {
+			return;
 		}
 
 		// If rule has not yet been set, set the selected rule in the model
-		if(caModel.getRule().getLength(null) == 0) {
+		if(caModel.getRule() == null) {
 			caModel.setRule(lastSelectedRule);
 		}
 
-		// Start off by drawing the current state
-		drawState();
+		// Start off by drawing the current state, then compute ahead from it (replacing any recorded future)
+		int[] state = caModel.getState();
+		this.drawnState = state.clone();
+		drawState(state);
+		caView.updateDisplay();
 
-		// As long as animate is true, call the view to shift & update display, 
-		// then call the model to reset the state & re-draw
-		while(startSimpleAnimation == true) {
-			sleep(100);
-			caView.shiftDisplay();
-			caView.updateDisplay();
-			caModel.setState(caModel.recalcState());
-			drawState();
+		simpleHistory.truncateAfter(simpleGeneration);
+		if(!simpleHistory.contains(simpleGeneration)) {
+			simpleHistory.record(simpleGeneration, state);
 		}
+		this.simpleLookahead = new LookaheadBuffer<int[]>(simpleLookaheadSize, () -> new int[state.length], 
+				this::computeSimpleState, "CA lookahead", simpleGeneration);
+		simpleLookahead.start();
+		startFrames(simpleFrame);
+
+	}
+
+
+	/**
+	 * A method to compute the next simple CA state into a lookahead buffer & the history (on the lookahead thread)
+	 * 
+	 * @return int - generations moved on, always 1
+	 */
+	private int computeSimpleState(int[] buffer) {
+		caModel.advanceState();
+		System.arraycopy(caModel.getState(), 0, buffer, 0, buffer.length);
+		simpleHistory.record(simpleHistory.getNewestGeneration() + 1, buffer);
+		return 1;
+	}
+
+
+	/**
+	 * A method for one frame of the simple CA animation: for every generation due, call the view to shift
+	 * the display then draw the new state at the bottom
+	 */
+	private void drawSimpleFrame() {
 
+		int due = warp ? simpleLookahead.getCapacity() : takeDueGenerations(simpleClassicRate);
+		for(int k = 0; k < due; k++) {
+			int[] state = simpleLookahead.poll();
+			if(state == null) {
+				break;
+			}
+			caView.shiftDisplay();
+			drawState(state);
+			recordState(state);
+			System.arraycopy(state, 0, drawnState, 0, state.length);
+			this.simpleGeneration = simpleLookahead.getGeneration();
+			simpleLookahead.release(state);
+		}
+		caView.updateDisplay();
 	}
 
 
 	/**
-	 * This method animates the Game of Life
+	 * This method starts animating the Game of Life: generations are computed ahead on a LookaheadBuffer's thread,
+	 * and drawn as frames on the scheduler's thread
 	 */
 	@Override
 	public void animateGameOfLife() {
@@ -126,27 +286,475 @@ public class CAController implements Controller, ActionListener {
 		// if called before board was generated, generate a board
 		if(!gameBoardGenerated) {
 			generateGOLBoard();
+			this.gameBoardGenerated = true;
+		}
+
+		// compute ahead from the board on display (replacing any recorded future)
+		this.drawnBoard = copyBoard(caModel.getInitialGOLBoard(), null);
+		gameHistory.truncateAfter(gameGeneration);
+		if(!gameHistory.contains(gameGeneration)) {
+			gameHistory.record(gameGeneration, drawnBoard);
+		}
+		gameCycles.clear();
+		this.cycleBoards = null;
+		this.cycleChanges = null;
+
+		// the display may not match the board (e.g., after a rule change), so the first frame redraws it all
+		this.redrawAll = true;
+		this.gameLookahead = new LookaheadBuffer<GameBuffer>(gameLookaheadSize, GameBuffer::new, 
+				this::computeGameState, "GOL lookahead", gameGeneration);
+		gameLookahead.start();
+		startFrames(gameFrame);
+
+	}
+
+
+	/**
+	 * A method to compute the next GOL board into a lookahead buffer (on the lookahead thread). In warp mode,
+	 * it keeps stepping for a frame's time and only the last board is kept (every board goes in the history),
+	 * along with every cell that changed on the way.
+	 * 
+	 * @return int - generations moved on
+	 */
+	private int computeGameState(GameBuffer buffer) {
+
+		buffer.changes.clear();
+
+		// once the board is cycling, replay the cached boards one generation at a time (warp or not, they look the same)
+		if(cycleBoards != null) {
+			long generation = gameHistory.getNewestGeneration() + 1;
+			int index = (int) ((generation - cycleStart) % cycleBoards.length);
+			gameHistory.record(generation, cycleBoards[index]);
+			copyBoard(cycleBoards[index], buffer.board);
+			buffer.changes.addAll(cycleChanges[index], cycleChanges[index].length);
+			return 1;
+		}
+
+		long budget = warp ? (1000000000L / framesPerSecond) : 0;
+		long start = System.nanoTime();
+		int steps = 0;
+		do {
+			// use the model to calculate the next game state in place, it becomes the current state,
+			// then set the newly generated "current" state to next cycle's initial state
+			caModel.advanceGameState();
+			caModel.setInitialGOLBoard(caModel.getCurrentGOLBoard());
+			long generation = gameHistory.getNewestGeneration() + 1;
+			gameHistory.record(generation, caModel.getCurrentGOLBoard());
+			steps++;
+
+			// if the model doesn't know which cells changed, they all have to be redrawn
+			int[] changedCells = caModel.getGOLChangedCells();
+			if(changedCells != null) {
+				buffer.changes.addAll(changedCells, caModel.getGOLChangedCount());
+			} else {
+				buffer.changes.addEvery();
+			}
+
+			// stop stepping once the board repeats
+			if(gameCycles.observe(generation, caModel.getGOLHash()) && cacheCycle()) {
+				break;
+			}
+		} while(System.nanoTime() - start < budget);
+
+		copyBoard(caModel.getCurrentGOLBoard(), buffer.board);
+		return steps;
+	}
+
+
+	/**
+	 * A method to cache the boards of the cycle just found, from the history (on the lookahead thread)
+	 * 
+	 * @return boolean - true if they were cached, false if the cycle's too long, or no longer in the history
+	 */
+	private boolean cacheCycle() {
+
+		long start = gameCycles.getCycleStart();
+		long period = gameCycles.getPeriod();
+		if(period > maxReplayPeriod || !gameHistory.contains(start)) {
+			return false;
+		}
+
+		int[][][] boards = new int[(int) period][gameNumRows][gameNumCols];
+		for(int k = 0; k < period; k++) {
+			gameHistory.seek(start + k, boards[k]);
+		}
+
+		// make sure the board really repeats (and it wasn't two boards with the same hash)
+		if(!Arrays.deepEquals(boards[0], caModel.getCurrentGOLBoard())) {
+			gameCycles.clear();
+			return false;
+		}
+
+		// the cells that change going into each board, from the one before it (the first comes after the last)
+		int[][] changes = new int[(int) period][];
+		for(int k = 0; k < period; k++) {
+			changes[k] = diffBoards(boards[(int) ((k + period - 1) % period)], boards[k]);
+		}
+
+		this.cycleStart = start;
+		this.cycleChanges = changes;
+		this.cycleBoards = boards;
+		return true;
+	}
+
+
+	/**
+	 * A method for one frame of the Game of Life animation, draws the latest of the generations due
+	 * (the ones in between are skipped, but the cells they changed are redrawn)
+	 */
+	private void drawGameFrame() {
+
+		// in warp mode each buffer is already a frame's worth of generations
+		int due = warp ? 1 : takeDueGenerations(gameClassicRate);
+		GameBuffer latest = null;
+		for(int k = 0; k < due; k++) {
+			GameBuffer buffer = gameLookahead.poll();
+			if(buffer == null) {
+				break;
+			}
+			if(latest != null) {
+				gameLookahead.release(latest);
+			} else {
+				frameChanges.clear();
+			}
+			frameChanges.addAll(buffer.changes);
+			latest = buffer;
+		}
+		if(latest == null) {
+			return;
+		}
+		int[][] board = latest.board;
+
+		// draw the board (colored by the change from the last frame), then use the View to update display
+		boolean all = redrawAll || frameChanges.isEvery();
+		if(all) {
+			drawGOLBoard(drawnBoard, board);
+		} else {
+			drawGOLChanges(drawnBoard, board, frameChanges.cells, frameChanges.count);
+		}
+		caView.updateDisplay();
+		recordBoard(drawnBoard, board);
+
+		// the board on display is now this one, only the cells just redrawn (see drawGOLChanges()) can differ
+		if(all) {
+			copyBoard(board, drawnBoard);
+		} else {
+			for(int k = 0; k < redrawnCells.count; k++) {
+				int i = redrawnCells.cells[k] / gameNumCols;
+				int j = redrawnCells.cells[k] % gameNumCols;
+				drawnBoard[i][j] = board[i][j];
+			}
+		}
+		this.redrawAll = false;
+		this.gameGeneration = gameLookahead.getGeneration();
+		gameLookahead.release(latest);
+
+	}
+
+
+	/**
+	 * A method to seek the simple CA to a past generation, redrawing the rows on display from the history.
+	 * An animation that's running carries on from there.
+	 * 
+	 * @param generation - long, the generation (clamped to the ones the history holds)
+	 */
+	public void seekSimpleRule(long generation) {
+		scheduler.execute(() -> seekSimpleRuleNow(generation));
+	}
+
+
+	/**
+	 * A method to seek the Game of Life to a past generation, redrawing the board from the history.
+	 * An animation that's running carries on from there.
+	 * 
+	 * @param generation - long, the generation (clamped to the ones the history holds)
+	 */
+	public void seekGameOfLife(long generation) {
+		scheduler.execute(() -> seekGameOfLifeNow(generation));
+	}
+
+
+	/**
+	 * A method to seek the simple CA (on the scheduler's thread)
+	 */
+	private void seekSimpleRuleNow(long generation) {
+
+		stopAnimation();
+		if(!simpleHistory.isEmpty()) {
+
+			long target = Math.max(simpleHistory.getOldestGeneration(), Math.min(generation, simpleHistory.getNewestGeneration()));
+			int[] state = new int[simpleHistory.getNumCells()];
+			simpleHistory.seek(target, state);
+			caModel.setState(state);
+			this.simpleGeneration = target;
+
+			// draw the generations leading up to it, oldest at the top
+			caView.clearDisplay();
+			long first = Math.max(simpleHistory.getOldestGeneration(), target - simpleVisibleRows + 1);
+			int[] row = new int[state.length];
+			for(long g = first; g <= target; g++) {
+				if(g > first) {
+					caView.shiftDisplay();
+				}
+				simpleHistory.seek(g, row);
+				drawState(row);
+			}
+			caView.updateDisplay();
 		}
+		updateAnimation();
+	}
 
-		// then as long as animation var is true
-		while(startGameOfLife == true) {
 
-			// slight delay
-			sleep(175);
+	/**
+	 * A method to seek the Game of Life (on the scheduler's thread)
+	 */
+	private void seekGameOfLifeNow(long generation) {
+
+		stopAnimation();
+		if(!gameHistory.isEmpty()) {
 
-			// use the model to re-calc the game state, and set that to current state
-			int[][] newState = caModel.recalcGameState();
-			caModel.setCurrentGOLBoard(newState);
+			long target = Math.max(gameHistory.getOldestGeneration(), Math.min(generation, gameHistory.getNewestGeneration()));
+			int[][] board = new int[gameNumRows][gameNumCols];
+			gameHistory.seek(target, board);
+			caModel.setInitialGOLBoard(board);
+			caModel.setCurrentGOLBoard(board);
+			this.gameGeneration = target;
 
-			// draw the board, then use the View to update display
-			drawGOLBoard();
+			// the board's drawn as it is, with no birth/death colors
+			drawGOLBoard(board, board);
+			caView.displayGOLBoard();
 			caView.updateDisplay();
+		}
+		updateAnimation();
+	}
+
+
+	/**
+	 * A method to start drawing frames for an animation (on the scheduler's thread)
+	 */
+	private void startFrames(Runnable frame) {
+		this.generationsDue = 0;
+		this.runningFrame = frame;
+		scheduler.start(frame, Math.max(1, 1000 / framesPerSecond));
+	}
+
+
+	/**
+	 * A method to work out how many generations are due this frame at the target rate, any fraction of
+	 * a generation carries over to the next frame
+	 * 
+	 * @param classicRate - double, the animation's generations per second at its classic speed
+	 * @return int - number of generations to draw
+	 */
+	private int takeDueGenerations(double classicRate) {
+		double rate = (generationsPerSecond > 0) ? generationsPerSecond : classicRate;
+		generationsDue += rate / framesPerSecond;
+		int due = (int) generationsDue;
+		generationsDue -= due;
+		return due;
+	}
+
+
+	/**
+	 * A method to stop the running animation (on the scheduler's thread). Generations computed ahead are
+	 * dropped and the model is rewound to what's on display, so it's safe to change.
+	 */
+	private void stopAnimation() {
 
-			// before next iteration of loop, set the newly generated "current" state to next cycle's initial state
-			caModel.setInitialGOLBoard(newState);
+		scheduler.stop();
 
+		if(simpleLookahead != null) {
+			simpleLookahead.stop();
+			caModel.setState(drawnState.clone());
+			this.simpleLookahead = null;
 		}
 
+		if(gameLookahead != null) {
+			gameLookahead.stop();
+			int[][] board = copyBoard(drawnBoard, null);
+			caModel.setInitialGOLBoard(board);
+			caModel.setCurrentGOLBoard(board);
+			this.gameLookahead = null;
+		}
+
+		this.runningFrame = null;
+	}
+
+
+	/**
+	 * A method to show something that went wrong on the scheduler's thread in the view's status line. If it
+	 * was a frame (which the scheduler has stopped), the animation is stopped too.
+	 */
+	private void reportError(RuntimeException e) {
+
+		if(runningFrame != null && !scheduler.isRunning()) {
+			stopAnimation();
+		}
+
+		String message = (e.getMessage() != null) ? e.getMessage() : e.getClass().getSimpleName();
+		caView.showStatus("Error: " + message);
+	}
+
+
+	/**
+	 * A method to start or stop animations after a button press, run on the scheduler's thread.
+	 * Like the old menu loop, the simple CA takes priority, and the GOL runs (or carries on) once it's paused.
+	 */
+	private void updateAnimation() {
+
+		if(startSimpleAnimation && lastSelectedRule >= 0) {
+			if(runningFrame != simpleFrame) {
+				stopAnimation();
+				animateSimpleRule();
+			}
+		} else if(startGameOfLife) {
+			if(runningFrame != gameFrame) {
+				stopAnimation();
+				animateGameOfLife();
+			}
+		} else {
+			stopAnimation();
+		}
+	}
+
+
+	/**
+	 * A method to set the GOL's rule & edges, switching the model to the engine for them (run on the scheduler's
+	 * thread, with the GOL stopped). HaloLife only runs 2 state rules, so engines are switched with none in use.
+	 * 
+	 * @param rule - the LifeRule to run
+	 * @param wrap - boolean, true for edges that wrap around as a torus, false for the fixed border
+	 */
+	private void setGameRule(LifeRule rule, boolean wrap) {
+
+		if(!wrap && !wrapEdges) {
+			caModel.setLifeRule(rule);
+			return;
+		}
+
+		if(!wrapEdges) {
+			this.fixedEdgeEngine = caModel.getGOLEngine();
+		}
+		caModel.setGOLEngine(null);
+		caModel.setLifeRule(rule);
+		if(!wrap) {
+			caModel.setGOLEngine(fixedEdgeEngine);
+		} else if(rule.getNumStates() == 2) {
+			caModel.setGOLEngine(new HaloLife(BoundaryMode.TORUS));
+		} else {
+			caModel.setGOLEngine(new GenerationsLife(BoundaryMode.TORUS));
+		}
+		this.wrapEdges = wrap;
+	}
+
+
+	// ------------------------------------ Recording Methods -------------------------------------- //
+
+
+	/**
+	 * A method to start recording, from the next frame drawn by either animation until stopRecording()
+	 * (or until the other animation starts, or the GOL's rule changes its colors). Any recording already
+	 * going is finished first.
+	 * 
+	 * @param writer - FrameWriter to record with (e.g., a GifWriter), finished when the recording stops
+	 */
+	public void startRecording(FrameWriter writer) {
+		scheduler.execute(() -> {
+			stopRecordingNow();
+			this.recordingWriter = writer;
+		});
+	}
+
+
+	/**
+	 * A method to stop recording, frames already drawn are still written out (on the exporter's thread)
+	 */
+	public void stopRecording() {
+		scheduler.execute(this::stopRecordingNow);
+	}
+
+
+	/**
+	 * A method to stop recording (on the scheduler's thread)
+	 */
+	private void stopRecordingNow() {
+
+		if(recording != null) {
+			recording.finish();
+		} else if(recordingWriter != null) {
+			// nothing was drawn, so there's nothing to write, but the writer's output still needs closing
+			try {
+				recordingWriter.finish();
+			} catch (IOException e) {
+				caView.showStatus("Recording failed: " + e.getMessage());
+			}
+		}
+
+		this.recordingWriter = null;
+		this.recording = null;
+		this.recordedFrame = null;
+		this.recordedPalette = null;
+	}
+
+
+	/**
+	 * A method to record a simple CA state just drawn, if recording (on the scheduler's thread)
+	 */
+	private void recordState(int[] state) {
+
+		if(recordingWriter == null || !recordingMatches(simpleFrame, null)) {
+			return;
+		}
+		if(recording == null) {
+			int[] palette = { simpleBackgroundColor.getRGB() & 0xFFFFFF, simpleCellColor.getRGB() & 0xFFFFFF };
+			this.recording = new FrameExporter(recordingWriter, state.length, simpleVisibleRows, palette, pixelDimension,
+					recordingQueueSize, true);
+			recording.start();
+		}
+		recording.addRow(state);
+	}
+
+
+	/**
+	 * A method to record a GOL board just drawn, colored like drawGOLBoard(), if recording (on the scheduler's thread)
+	 */
+	private void recordBoard(int[][] priorBoard, int[][] board) {
+
+		Color[] colors = updateGOLPalette();
+		if(recordingWriter == null || !recordingMatches(gameFrame, colors)) {
+			return;
+		}
+		if(recording == null) {
+			int[] palette = new int[colors.length];
+			for(int k = 0; k < colors.length; k++) {
+				palette[k] = colors[k].getRGB() & 0xFFFFFF;
+			}
+			this.recording = new FrameExporter(recordingWriter, gameNumCols, gameNumRows, palette, pixelDimension,
+					recordingQueueSize, true);
+			recording.start();
+		}
+		recording.addBoard(priorBoard, board, golPriorWeight);
+	}
+
+
+	/**
+	 * Helper method to check a recording is for the animation drawing (and the colors it's drawn with),
+	 * it's stopped if it's not
+	 * 
+	 * @return boolean - true if the frame should be recorded
+	 */
+	private boolean recordingMatches(Runnable frame, Color[] palette) {
+
+		if(recording == null) {
+			this.recordedFrame = frame;
+			this.recordedPalette = palette;
+			return true;
+		}
+		if(recordedFrame != frame || recordedPalette != palette) {
+			stopRecordingNow();
+			return false;
+		}
+		return true;
 	}
 
 
@@ -174,18 +782,23 @@ public class CAController implements Controller, ActionListener {
 			catch(NumberFormatException nfe) {
 				lastSelectedRule = 0;
 			}
+
+			// if the animation was started before a rule was saved, it can start now
+			scheduler.execute(this::updateAnimation);
 		}
 
 		
 		// if the source is the start CA button, we want to flip the controller's bool var to true
 		if(e.getSource() == caView.getStartButton()) {
 			this.startSimpleAnimation = true;
+			scheduler.execute(this::updateAnimation);
 		}
 
 		
 		// if the source is pause CA button, flip bool back to false
 		if(e.getSource() == caView.getPauseButton()) {
 			this.startSimpleAnimation = false;
+			scheduler.execute(this::updateAnimation);
 		}
 
 		
@@ -193,74 +806,221 @@ public class CAController implements Controller, ActionListener {
 		if(e.getSource() == caView.getResetButton()) {
 			
 			this.startSimpleAnimation = false; // stop animation
-			sleep(225); // slight delay
 
-			// clear the view's display, then reset the model's state & rule
-			caView.clearDisplay();
-			caModel.setState(caModel.getBaseCase());
-			caModel.resetRule();
+			// once any step in progress is done, clear the view's display, then reset the model's state & rule
+			scheduler.execute(() -> {
+				stopAnimation();
+				caView.clearDisplay();
+				caModel.setState(caModel.getBaseCase());
+				caModel.resetRule();
+				simpleHistory.clear();
+				this.simpleGeneration = 0;
+				updateAnimation();
+			});
 		}
 
 
 		// if generate GOL selected, create a new board then flip bool to true
 		if(e.getSource() == caView.getGenerateGOLButton()) {
-			generateGOLBoard();
-			this.gameBoardGenerated = true;
+			scheduler.execute(() -> {
+				stopAnimation();
+				generateGOLBoard();
+				this.gameBoardGenerated = true;
+				updateAnimation();
+			});
 		}
 
 
 		// if animate GOL selected, flip bool var
 		if(e.getSource() == caView.getAnimateGameOfLife()) {
 			this.startGameOfLife = true;
+			scheduler.execute(this::updateAnimation);
 		}
 
 
 		// if pause GOL selected, flip back to false
 		if(e.getSource() == caView.getPauseGameOfLife()) {
 			this.startGameOfLife = false;
+			scheduler.execute(this::updateAnimation);
 		}
 
 
 		// if remove board selected, we want to reset both vars to false and clear the display
 		if(e.getSource() == caView.getRemoveGOLBoard()) {
 			this.startGameOfLife = false;
-			this.gameBoardGenerated = false;
-			caView.clearDisplay();
+			scheduler.execute(() -> {
+				stopAnimation();
+				this.gameBoardGenerated = false;
+				caView.clearDisplay();
+				gameHistory.clear();
+				this.gameGeneration = 0;
+				updateAnimation();
+			});
+		}
+
+
+		// if a new GOL rule is picked, switch the model over (takes effect on the next generation)
+		if(e.getSource() == caView.getLifeRuleBox()) {
+			LifeRule rule = caView.getSelectedLifeRule();
+			scheduler.execute(() -> {
+				stopAnimation();
+				setGameRule(rule, wrapEdges);
+				gameHistory.truncateAfter(gameGeneration);
+				updateAnimation();
+			});
+		}
+
+
+		// if new GOL edges are picked, carry on from the board on display with them (replacing any recorded future)
+		if(e.getSource() == caView.getEdgesBox()) {
+			boolean wrap = caView.getSelectedEdges() == 1;
+			scheduler.execute(() -> {
+				stopAnimation();
+				setGameRule(caModel.getLifeRule(), wrap);
+				gameHistory.truncateAfter(gameGeneration);
+				updateAnimation();
+			});
+		}
+
+
+		// if rewind GOL selected, go back a few generations (carrying on from there if it's animating)
+		if(e.getSource() == caView.getRewindGameOfLife()) {
+			scheduler.execute(() -> seekGameOfLifeNow(gameGeneration - rewindGenerations));
+		}
+
+
+		// if a new speed is picked, it's used from the next frame
+		if(e.getSource() == caView.getSpeedBox()) {
+			switch(caView.getSelectedSpeed()) {
+			case 0:
+				setGenerationsPerSecond(0);
+				setWarp(false);
+				break;
+			case 1:
+				setGenerationsPerSecond(30);
+				setWarp(false);
+				break;
+			case 2:
+				setGenerationsPerSecond(120);
+				setWarp(false);
+				break;
+			default:
+				setWarp(true);
+				break;
+			}
 		}
 
 	}
 
 
-	// -------------------------------------- Helper Methods --------------------------------------- //
-	
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
 
 	/**
-	 * A helper method so that Thread.sleep can be called from various places w/o needing 
-	 * the try/catch block in each spot 
+	 * Setter for the target simulation speed, used from the next frame (unless in warp mode)
 	 * 
-	 * @param sleepTime - int representing how long (ms) to wait
+	 * @param generationsPerSecond - double, generations per second, or 0 for each animation's classic speed
 	 */
-	public void sleep(int sleepTime) {
-		try {
-			Thread.sleep(sleepTime);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
+	public void setGenerationsPerSecond(double generationsPerSecond) {
+		if(generationsPerSecond < 0) {
+			throw new IllegalArgumentException("Generations per second can't be negative, got " + generationsPerSecond);
 		}
+		this.generationsPerSecond = generationsPerSecond;
 	}
+
+
+	/**
+	 * Setter for the frame rate, a running animation switches over right away
+	 * 
+	 * @param framesPerSecond - integer, frames drawn per second (1 - 1000)
+	 */
+	public void setFramesPerSecond(int framesPerSecond) {
+		if(framesPerSecond < 1 || framesPerSecond > 1000) {
+			throw new IllegalArgumentException("Frames per second must be 1 - 1000, got " + framesPerSecond);
+		}
+		this.framesPerSecond = framesPerSecond;
+		scheduler.execute(() -> {
+			if(runningFrame != null) {
+				scheduler.start(runningFrame, Math.max(1, 1000 / this.framesPerSecond));
+			}
+		});
+	}
+
+
+	/**
+	 * Setter for warp mode, where generations are computed as fast as they can be (rather than at
+	 * the target speed) and only as many are drawn as there's time for
+	 * 
+	 * @param warp - boolean, true to warp
+	 */
+	public void setWarp(boolean warp) {
+		this.warp = warp;
+	}
+
+
+	/**
+	 * Getter for the target simulation speed
+	 * 
+	 * @return double - generations per second, 0 for each animation's classic speed
+	 */
+	public double getGenerationsPerSecond() {
+		return this.generationsPerSecond;
+	}
+
+
+	/**
+	 * Getter for the frame rate
+	 * 
+	 * @return int - frames drawn per second
+	 */
+	public int getFramesPerSecond() {
+		return this.framesPerSecond;
+	}
+
+
+	/**
+	 * Getter for warp mode
+	 * 
+	 * @return boolean - true if warping
+	 */
+	public boolean isWarp() {
+		return this.warp;
+	}
+
+
+	/**
+	 * Getter for whether recording is on
+	 * 
+	 * @return boolean - true from startRecording() until the recording stops
+	 */
+	public boolean isRecording() {
+		return this.recordingWriter != null;
+	}
+
+
+	// -------------------------------------- Helper Methods --------------------------------------- //
 	
-	
+
 	/**
 	 * A method to draw the state for the simple CA rules
 	 */
 	public void drawState() {
-		
-		// grab the state, and then loop through, if int is == 1, draw on bottom of screen
-		int[] currentState = this.caModel.getState();
+		drawState(this.caModel.getState());
+	}
 
+
+	/**
+	 * A method to draw a given state for the simple CA rules
+	 * 
+	 * @param currentState - integer array, the state to draw
+	 */
+	public void drawState(int[] currentState) {
+		
+		// loop through the state, if int is == 1, draw on bottom of screen
 		for(int i = 0; i < currentState.length; i++) {
 			if(currentState[i] == 1) {
 				// y defaulted to 660 as we are always drawing on bottom of display, shifting rest up
-				caView.addPixel(i * pixelDimension, 660, new Color(133, 118, 255));
+				caView.addPixel(i * pixelDimension, 660, simpleCellColor);
 			}
 		}
 	}
@@ -275,17 +1035,24 @@ public class CAController implements Controller, ActionListener {
 		caModel.randomizeBoard();
 		int[][] board = caModel.getInitialGOLBoard();
 
-		// loop through all elements, and use the View to set panel colors based on values
+		// loop through all elements, and use the View to set panel colors based on values (black or white,
+		// i.e., the cell's state with no change from the prior state)
+		Color[] palette = updateGOLPalette();
+		int steady = golPriorWeight + 1;
 		for(int i = 0; i < gameNumRows; i++) {
 			for(int j = 0; j < gameNumCols; j++) {
-				if(board[i][j] == 1) {
-					caView.setGOLPanelColor(i, j, Color.black);
-				} else {
-					caView.setGOLPanelColor(i, j, Color.white);
-				}
+				caView.setGOLPanelColor(i, j, palette[board[i][j] * steady]);
 			}
 		}
 
+		// every panel was just redrawn, so no cells are left with a birth/death color
+		lastChangedCells.clear();
+
+		// a new board starts a new history
+		gameHistory.clear();
+		gameHistory.record(0, board);
+		this.gameGeneration = 0;
+
 		// call the view's methods to display and update after panel colors set
 		caView.displayGOLBoard();
 		caView.updateDisplay();
@@ -297,35 +1064,249 @@ public class CAController implements Controller, ActionListener {
 	 */
 	public void drawGOLBoard(){
 
+		// if the model keeps track of which cells changed, only those need to be redrawn
+		int[] changedCells = caModel.getGOLChangedCells();
+		if(changedCells != null) {
+			drawGOLChanges(caModel.getInitialGOLBoard(), caModel.getCurrentGOLBoard(), changedCells, 
+					caModel.getGOLChangedCount());
+			return;
+		}
+
 		// grab both the initial and current state of the board
-		int[][] priorState = caModel.getInitialGOLBoard();
-		int[][] currentState = caModel.getCurrentGOLBoard();
+		drawGOLBoard(caModel.getInitialGOLBoard(), caModel.getCurrentGOLBoard());
+	}
+
 
-		// loop through every element in the table...
+	/**
+	 * A method to draw a GOL board, colored by how each cell changed from a prior board
+	 * 
+	 * @param priorState - 2D array of integers, the board drawn before
+	 * @param currentState - 2D array of integers, the board to draw
+	 */
+	public void drawGOLBoard(int[][] priorState, int[][] currentState) {
+
+		/**
+		 * We will use the view's method to set panel colors. For 2 state rules
+		 * we want to draw in different ways based on the change between prior & current state,
+		 * so the palette index is (prior * 2) + current:
+		 * 		0) If cell goes from 0 -> 0, keep display white
+		 * 		1) If cell goes from 0 -> 1, this represents 'birth', draw with a reddish color
+		 * 		2) If cell goes from 1 -> 0, this represents 'death', draw with a bluish color
+		 * 		3) If cell goes from 1 -> 1, this is alive, so keep display black
+		 * For Generations rules the prior state's weight is 0, and the index is just the current state
+		 * (white, black, then fading from the 'death' color for each decaying state).
+		 */
+		Color[] palette = updateGOLPalette();
+		int weight = golPriorWeight;
+
+		// loop through every element in the table (the view only redraws cells whose color changed)...
+		lastChangedCells.clear();
 		for(int i = 0; i < gameNumRows; i++) {
+			int[] prior = priorState[i];
+			int[] current = currentState[i];
 			for(int j = 0; j < gameNumCols; j++) {
+				caView.setGOLPanelColor(i, j, palette[(prior[j] * weight) + current[j]]);
 
-				/**
-				 * We will use the view's method to set panel colors. For the GOL
-				 * we want to draw in different ways based on the change between prior & current state:
-				 * 		1) If cell goes from 0 -> 0, keep display white
-				 * 		2) If cell goes from 0 -> 1, this represents 'birth', draw with a reddish color
-				 * 		3) If cell goes from 1 -> 1, this is alive, so keep display black
-				 * 		4) If cell goes from 1 -> 0, this represents 'death', draw with a bluish color
-				 */
-				if((priorState[i][j] == 0) && (currentState[i][j] == 0)) {
-					caView.setGOLPanelColor(i, j, Color.white);
-				} else if((priorState[i][j] == 0) && (currentState[i][j] == 1)) {
-					caView.setGOLPanelColor(i, j, new Color(255, 167, 50));
-				} else if((priorState[i][j] == 1) && (currentState[i][j] == 1)) {
-					caView.setGOLPanelColor(i, j, Color.black);
-				} else if((priorState[i][j] == 1) && (currentState[i][j] == 0)) {
-					caView.setGOLPanelColor(i, j, new Color(133, 29, 176));
+				// ...remembering which cells got a birth/death color, so they can be put back next time
+				if(weight != 0 && prior[j] != current[j]) {
+					lastChangedCells.add((i * gameNumCols) + j);
 				}
 			}
 		}
 	}
 
-	
-}
 
+	/**
+	 * A method to draw a GOL board given the cells that changed since the prior board was drawn, uses the
+	 * same colors as drawGOLBoard() without looking at the cells that stayed the same. Cells drawn with a
+	 * birth/death color last time are redrawn too (their color may not be a change anymore).
+	 * 
+	 * @param priorState - 2D array of integers, the board drawn before
+	 * @param currentState - 2D array of integers, the board to draw
+	 * @param changedCells - integer array of changed cells, stored as (row * gameNumCols) + col
+	 * @param changedCount - integer for how many entries of changedCells are valid
+	 */
+	public void drawGOLChanges(int[][] priorState, int[][] currentState, int[] changedCells, int changedCount) {
+
+		Color[] palette = updateGOLPalette();
+		int weight = golPriorWeight;
+
+		// every cell to redraw, once each
+		redrawnCells.clear();
+		redrawnCells.addAll(lastChangedCells);
+		redrawnCells.addAll(changedCells, changedCount);
+
+		lastChangedCells.clear();
+		for(int k = 0; k < redrawnCells.count; k++) {
+			int i = redrawnCells.cells[k] / gameNumCols;
+			int j = redrawnCells.cells[k] % gameNumCols;
+			int prior = priorState[i][j];
+			int state = currentState[i][j];
+			caView.setGOLPanelColor(i, j, palette[(prior * weight) + state]);
+			if(weight != 0 && prior != state) {
+				lastChangedCells.add(redrawnCells.cells[k]);
+			}
+		}
+	}
+
+
+	/**
+	 * A helper method to list the cells that differ between two GOL boards
+	 * 
+	 * @param board - 2D array of integers
+	 * @param other - 2D array of integers with the same dimensions
+	 * @return int[] - the cells that differ, stored as (row * gameNumCols) + col
+	 */
+	private static int[] diffBoards(int[][] board, int[][] other) {
+
+		int count = 0;
+		for(int i = 0; i < board.length; i++) {
+			for(int j = 0; j < board[i].length; j++) {
+				if(board[i][j] != other[i][j]) {
+					count++;
+				}
+			}
+		}
+
+		int[] cells = new int[count];
+		count = 0;
+		for(int i = 0; i < board.length; i++) {
+			for(int j = 0; j < board[i].length; j++) {
+				if(board[i][j] != other[i][j]) {
+					cells[count++] = (i * gameNumCols) + j;
+				}
+			}
+		}
+		return cells;
+	}
+
+
+	/**
+	 * A helper method to copy a GOL board
+	 * 
+	 * @param board - 2D array of integers to copy
+	 * @param copy - 2D array of integers with the same dimensions to copy into, or null for a new one
+	 * @return int[][] - the copy
+	 */
+	private static int[][] copyBoard(int[][] board, int[][] copy) {
+		if(copy == null) {
+			copy = new int[board.length][board[0].length];
+		}
+		for(int i = 0; i < board.length; i++) {
+			System.arraycopy(board[i], 0, copy[i], 0, board[i].length);
+		}
+		return copy;
+	}
+
+
+	/**
+	 * A helper method to (re)build the GOL palette if the model's rule has changed since it was built
+	 * 
+	 * @return Color[] - the palette for the current rule, see golPalette
+	 */
+	private Color[] updateGOLPalette() {
+
+		LifeRule rule = caModel.getLifeRule();
+		if(rule == golPaletteRule) {
+			return golPalette;
+		}
+
+		int numStates = rule.getNumStates();
+		if(numStates == 2) {
+			this.golPalette = twoStatePalette;
+			this.golPriorWeight = 2;
+		} else {
+			// decaying states fade from the 'death' color towards white
+			this.golPalette = new Color[numStates];
+			golPalette[0] = Color.white;
+			golPalette[1] = Color.black;
+			for(int state = 2; state < numStates; state++) {
+				float fade = (float) (state - 2) / (numStates - 1);
+				golPalette[state] = new Color(
+						Math.round(deathColor.getRed() + ((255 - deathColor.getRed()) * fade)), 
+						Math.round(deathColor.getGreen() + ((255 - deathColor.getGreen()) * fade)), 
+						Math.round(deathColor.getBlue() + ((255 - deathColor.getBlue()) * fade)));
+			}
+			this.golPriorWeight = 0;
+		}
+		this.golPaletteRule = rule;
+		return golPalette;
+	}
+
+
+	// ----------------------------------- GOL Buffer Classes -------------------------------------- //
+
+
+	/**
+	 * A GOL board computed ahead, and the cells that changed in the generations it moved on
+	 */
+	private static class GameBuffer {
+
+		private final int[][] board;
+		private final CellSet changes;
+
+		private GameBuffer() {
+			this.board = new int[gameNumRows][gameNumCols];
+			this.changes = new CellSet(gameNumRows * gameNumCols);
+		}
+	}
+
+
+	/**
+	 * A set of GOL cells, each stored as (row * gameNumCols) + col and listed once in the order added, or
+	 * every cell (when which ones isn't known). Clearing it doesn't touch every cell, each cell is marked
+	 * with the stamp of the last time it was added.
+	 */
+	private static class CellSet {
+
+		private final int[] cells;
+		private int count;
+		private boolean every;
+		private final int[] marks;
+		private int stamp;
+
+		private CellSet(int numCells) {
+			this.cells = new int[numCells];
+			this.marks = new int[numCells];
+			this.stamp = 1;
+		}
+
+		private void clear() {
+			this.count = 0;
+			this.every = false;
+			if(++stamp == 0) {
+				Arrays.fill(marks, 0);
+				this.stamp = 1;
+			}
+		}
+
+		private void add(int cell) {
+			if(marks[cell] != stamp) {
+				marks[cell] = stamp;
+				cells[count++] = cell;
+			}
+		}
+
+		private void addAll(int[] added, int addedCount) {
+			for(int k = 0; k < addedCount; k++) {
+				add(added[k]);
+			}
+		}
+
+		private void addAll(CellSet other) {
+			if(other.every) {
+				this.every = true;
+			}
+			addAll(other.cells, other.count);
+		}
+
+		private void addEvery() {
+			this.every = true;
+		}
+
+		private boolean isEvery() {
+			return this.every;
+		}
+	}
+
+}
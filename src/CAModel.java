@@ -12,6 +12,13 @@ Notes / Class Description:
        
 ******/
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -21,18 +28,52 @@ import java.util.stream.Collectors;
 public class CAModel implements Model {  
 
 
-	// for the simple Cellular Automata (CA) examples, store the rule as a linked list
-	private LinkedList<Integer> rule;
+	// for the simple Cellular Automata (CA) examples, store the rule as a compiled lookup table (null until set)
+	private ElementaryRule rule;
+
+	// optional bit packed engine for the simple CA, and how many threads it should step with
+	private BitPackedCA bitPackedEngine;
+	private int simpleThreads;
+
+	// the state array the bit packed engine currently holds (so we only re-load it when the state changes)
+	private int[] bitPackedSource;
+
+	// optional recording of every simple CA state calculated, to a memory-mapped file (null = off)
+	private SpacetimeRecorder spacetimeRecorder;
+
+	// two preallocated states for advanceState(), which take turns being the current state
+	private int[] stateBufferA;
+	private int[] stateBufferB;
 
 	// for simple CAs, data will be stored as an array of ints (0s or 1s). baseCase will have middle element as 1, rest 0s.
 	private int[] currentState;
 	private int[] baseCase;
 
-	// 2D array of ints will store the initial and current states of the Game of Life (GOL). (0 = "dead"; 1 = "alive")
+	// the Life-like rule the GOL runs (see LifeRule), compiled to a lookup table shared with any GOL engine
+	private LifeRule lifeRule;
+
+	// 2D array of ints will store the initial and current states of the Game of Life (GOL). (0 = "dead"; 1 = "alive";
+	// 2 and up = decaying, for Generations rules)
 	private int[][] initialStateTable;
 	private int[][] currentStateTable;
 
-	// # of rows & columns to be used for 2D GOL; must match the dimensions of panels in the view
+	// optional alternative GOL engine (null = use the int[][] methods below), and the board it currently holds
+	private LifeEngine golEngine;
+	private int[][] golEngineBoard;
+
+	// a board exactly one generation behind the GOL engine (if there is one), so it can be caught up cheaply
+	private int[][] golEngineTrailing;
+
+	// two preallocated boards for advanceGameState(), which take turns being the current board
+	private int[][] golBufferA;
+	private int[][] golBufferB;
+
+	// optional Zobrist hashing of the GOL board (null = off), the hash, and the board it's the hash of
+	private ZobristHash golZobrist;
+	private long golHash;
+	private int[][] golHashedBoard;
+
+	// default # of rows & columns to be used for 2D GOL; must match the dimensions of panels in the view
 	private final static int gameNumRows = CAView.gameNumRows;
 	private final static int gameNumCols = CAView.gameNumCols;
 
@@ -41,21 +82,47 @@ public class CAModel implements Model {
 
 
 	/**
-	 * No argument constructor for the CA Model
+	 * No argument constructor for the CA Model, simple CAs are 156 cells wide
 	 */
 	public CAModel() {
+		this(156);
+	}
+
+
+	/**
+	 * Constructor for the CA Model with a given width for the simple CAs
+	 * 
+	 * @param simpleWidth - integer, number of cells in the simple CA's state (at least 2)
+	 */
+	public CAModel(int simpleWidth) {
+		this(simpleWidth, gameNumRows, gameNumCols);
+	}
+
+
+	/**
+	 * Constructor for the CA Model with given sizes for both the simple CAs and the GOL (e.g., for
+	 * running without the view, see BatchRunner)
+	 * 
+	 * @param simpleWidth - integer, number of cells in the simple CA's state (at least 2)
+	 * @param golRows - integer, number of rows on the GOL board (at least 3)
+	 * @param golCols - integer, number of columns on the GOL board (at least 3)
+	 */
+	public CAModel(int simpleWidth, int golRows, int golCols) {
 
-		// linked list to store rule for simple CAs
-		this.rule = new LinkedList<Integer>();
+		// no rule for simple CAs until one is selected
+		this.rule = null;
+		this.simpleThreads = 1;
 
 		// simple CA base case & current state identical to start, but will not always be the case
-		this.baseCase = new int[156];
-		this.baseCase[77] = 1;
-		this.currentState = new int[156];
-		this.currentState[77] = 1;
+		int middle = (simpleWidth - 1) / 2;
+		this.baseCase = new int[simpleWidth];
+		this.baseCase[middle] = 1;
+		this.currentState = new int[simpleWidth];
+		this.currentState[middle] = 1;
 
-		// initialize 2D array for GOL at specified dimensions
-		this.initialStateTable = new int[gameNumRows][gameNumCols];
+		// initialize 2D array for GOL at specified dimensions, running the rule the GOL has always run
+		this.initialStateTable = new int[golRows][golCols];
+		this.lifeRule = LifeRule.CLASSIC;
 
 		// initialize random number generator
 		this.rand = new Random();
@@ -67,40 +134,30 @@ public class CAModel implements Model {
 
 
 	/**
-	 * A recursive method to take in a provided integer, rule number, and set the model's rule linked
-	 * list to equal that integer's binary representation in base 2. 
+	 * A method to take in a provided integer, rule number, and set the model's rule to the compiled
+	 * table for that integer's binary representation in base 2. 
 	 * 
-	 * E.g., setRule(10) will set the model's rule to { 0 > 0 > 0 > 0 > 1 > 0 > 1 > 0 }, as 10's
+	 * E.g., setRule(10) will set the model's rule table to { 0, 0, 0, 0, 1, 0, 1, 0 }, as 10's
 	 * binary representation is [1, 0, 1, 0]
 	 * 
-	 * Note: we add front leading 0s to the linked list up until 8 spaces because there are 256 possible 
-	 * rules (0 - 255), or 2^8, and 255's binary representation is [1, 1, 1, 1, 1, 1, 1, 1], so 8 spaces
-	 * is enough to hold the maximum rule's binary representation. 
+	 * Note: the table has 8 spaces because there are 256 possible rules (0 - 255), or 2^8, and 255's 
+	 * binary representation is [1, 1, 1, 1, 1, 1, 1, 1]. All 256 tables are built once and cached
+	 * by ElementaryRule, so switching rules does not allocate anything. 
 	 * 
 	 * @param int - ruleNum, the integer to convert to binary for this CA's rule
 	 */
 	public void setRule(int ruleNum) {
 
-		// base case for recursion, if provided number is 0, we add 0's until length of linked list is 8
-		if(ruleNum == 0) {
-			while(this.rule.getLength(null) < 8) {
-				this.rule.add(0);
-			}
-			return;
-		} else {
-			// procedure for converting a base 10 int to base 2, we:
-			// 1) Add the remainder after division of our number by 2 to the linked list
-			// 2) Make a recursive call, setting in the new number to be (initial num - remainder) / 2
-			int remainder = ruleNum % 2;
-			this.rule.add(remainder);
-			setRule(((ruleNum - remainder) / 2));
+		this.rule = ElementaryRule.forNumber(ruleNum);
+		if(bitPackedEngine != null) {
+			bitPackedEngine.setRule(rule);
 		}
 	}
 
 
 	/**
-	 * A method to find the index of our rule linked list based on three input states,
-	 * a left, center, and right state. (this is also why our rule linked list is of length 8...
+	 * A method to find the index of our rule table based on three input states,
+	 * a left, center, and right state. (this is also why our rule table is of length 8...
 	 * with 3 states, each 0 or 1, there are 2 ^ 3 or 8 possible configurations). 
 	 * 
 	 * @param int - leftPos, the left most integer of a set of 3 in our CA's state array
@@ -108,32 +165,14 @@ public class CAModel implements Model {
 	 * @param int - rightPos, the right most integer of a set of 3 in our CA's state array
 	 * 
 	 * @return int - based on the provided state of 3, this method returns the integer we should use
-	 * 				 to index the rule linked list, in order to find what the new state of the center
+	 * 				 to index the rule table, in order to find what the new state of the center
 	 * 				 element should be after a change based on itself and its neighbors. 
 	 */
 	public int getRuleIndex(int leftPos, int centerPos, int rightPos) {
 
-		// we need to convert a binary number back to an integer, so these 3 vars
-		// will hold the squared, first power, and 0th power part required 
-		// (left pos corresponds to squared part, center to 1st, and right to 0th)
-		// Note: [1, 0, 1] = [1 * (2^2)] + [0 * (2^1)] + [1 * (2^0)] = 5
-		int squaredPart = 0;
-		int firstPart = 0;
-		int zerothPart = 0;
-
-		// only calculate the corresponding power if the given bit is a 1
-		if(leftPos == 1) {
-			squaredPart = (int) Math.pow(2, 2);
-		}
-		if(centerPos == 1) {
-			firstPart = (int) Math.pow(2, 1);
-		}
-		if(rightPos == 1) {
-			zerothPart = (int) Math.pow(2, 0);
-		}
-
-		// return the sum of all parts, this is the bin # converted back to int, for indexing rule list
-		return squaredPart + firstPart + zerothPart;
+		// the 3 states read as a binary number, built with shifts
+		// Note: [1, 0, 1] = [1 << 2] | [0 << 1] | [1 << 0] = 5
+		return ElementaryRule.getIndex(leftPos, centerPos, rightPos);
 
 	}
 
@@ -145,27 +184,171 @@ public class CAModel implements Model {
 	 */
 	public int[] recalcState() {
 
-		// create a new array of ints, same length as original
+		// create a new array of ints, same length as original, then fill it in
+		int newState[] = new int[currentState.length];
+		calcStateInto(newState);
+
+		return newState;
+
+	}
+
+
+	/**
+	 * This method moves the simple CA's current state forward one step without allocating anything.
+	 * Two preallocated arrays take turns: the new state is written into whichever one is not the
+	 * current state, and then becomes the current state (see getState()).
+	 */
+	public void advanceState() {
+
+		// (re)allocate the two buffers if needed, this only happens when the state's length changes
+		if(stateBufferA == null || stateBufferA.length != currentState.length) {
+			stateBufferA = new int[currentState.length];
+			stateBufferB = new int[currentState.length];
+		}
+
+		int[] newState = (currentState == stateBufferA) ? stateBufferB : stateBufferA;
+		calcStateInto(newState);
+		this.currentState = newState;
+
+	}
+
+
+	/**
+	 * Helper method that calculates the next state from the current state, writing it into the given array
+	 * 
+	 * @param newState - integer array, same length as the current state, to write the new state into
+	 */
+	private void calcStateInto(int[] newState) {
+
+		// if the bit packed engine is on, let it step (only re-loading when the state was changed elsewhere)
+		if(bitPackedEngine != null) {
+			if(bitPackedSource != currentState) {
+				bitPackedEngine.load(currentState);
+			}
+			bitPackedEngine.step();
+			bitPackedEngine.writeTo(newState);
+			bitPackedSource = newState;
+			if(spacetimeRecorder != null) {
+				record(bitPackedEngine.getWords());
+			}
+			return;
+		}
+
 		int stateLength = currentState.length;
-		int newState[] = new int[stateLength];
 
 		// Edge Case: to calculate the very first element of array, we have to account for the fact
 		// that there's no element left of 0, so we wrap around, using the last element of array
 		int firstIndex = getRuleIndex(currentState[stateLength - 1], currentState[0], currentState[1]);
-		newState[0] = rule.findNode(firstIndex).getData();
+		newState[0] = rule.getNewState(firstIndex);
 
 		// for bulk of the array we can iterate and call our function to change middle element based on rule
 		for(int i = 1; i < (stateLength - 1); i++) {
 			int index = getRuleIndex(currentState[i-1], currentState[i], currentState[i+1]);
-			newState[i] = rule.findNode(index).getData();
+			newState[i] = rule.getNewState(index);
 		}
 
 		// Other edge case, last element has no right neighbor, so wrap around & use 0
 		int lastIndex = getRuleIndex(currentState[stateLength - 2], currentState[stateLength - 1], currentState[0]);
-		newState[stateLength - 1] = rule.findNode(lastIndex).getData();
+		newState[stateLength - 1] = rule.getNewState(lastIndex);
+
+		if(spacetimeRecorder != null) {
+			record(newState);
+		}
+
+	}
+
+
+	/**
+	 * Helper methods to add a state to the spacetime recording, as cells or as the bit packed engine's words
+	 */
+	private void record(int[] state) {
+		try {
+			spacetimeRecorder.append(state);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void record(long[] words) {
+		try {
+			spacetimeRecorder.append(words);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+
+	/**
+	 * A method to switch the simple CA between the int[] implementation above (see ElementaryRule) and the
+	 * bit packed engine (64 cells per operation). Both produce exactly the same states.
+	 * 
+	 * @param enabled - boolean, true to use the bit packed engine for recalcState()
+	 */
+	public void setBitPackedEngine(boolean enabled) {
+
+		if(bitPackedEngine != null) {
+			bitPackedEngine.shutdown();
+		}
+
+		if(enabled) {
+			this.bitPackedEngine = new BitPackedCA(currentState.length);
+			bitPackedEngine.setThreads(simpleThreads);
+			if(rule != null) {
+				bitPackedEngine.setRule(rule);
+			}
+		} else {
+			this.bitPackedEngine = null;
+		}
+		this.bitPackedSource = null;
+	}
+
+
+	/**
+	 * A method to record every simple CA state calculated from now on (by recalcState() or advanceState()),
+	 * one generation after another, to a memory-mapped file that can be read back at random (see
+	 * SpacetimeRecorder). The current state is recorded first, if the recording is empty.
+	 * 
+	 * @param recorder - SpacetimeRecorder as wide as the state, or null to stop recording (it isn't closed)
+	 * @throws IOException - if the current state can't be recorded
+	 */
+	public void setSpacetimeRecorder(SpacetimeRecorder recorder) throws IOException {
+
+		if(recorder != null) {
+			if(recorder.getWidth() != currentState.length) {
+				throw new IllegalArgumentException("Recorder is " + recorder.getWidth() + " cells wide, the state is "
+						+ currentState.length);
+			}
+			if(recorder.getGenerations() == 0) {
+				recorder.append(currentState);
+			}
+		}
+		this.spacetimeRecorder = recorder;
+	}
+
+
+	/**
+	 * A method to set how many threads the bit packed engine steps with. The lattice is split into
+	 * chunks, one per thread, which only makes a difference for very wide lattices (see BitPackedCA).
+	 * 
+	 * @param numThreads - integer, the number of threads to use (1 for the caller's thread only)
+	 */
+	public void setSimpleThreads(int numThreads) {
+		this.simpleThreads = numThreads;
+		if(bitPackedEngine != null) {
+			bitPackedEngine.setThreads(numThreads);
+		}
+	}
 
-		return newState;
 
+	/**
+	 * This method uses our random number generator to randomize the simple CA's current state 
+	 * (each cell alive with a 50% chance), instead of starting from the single live cell
+	 */
+	public void randomizeState() {
+		for(int i = 0; i < currentState.length; i++) {
+			currentState[i] = rand.nextInt(2);
+		}
+		this.bitPackedSource = null;
 	}
 
 
@@ -177,7 +360,7 @@ public class CAModel implements Model {
 	 */
 	public void randomizeBoard() {
 		
-		for(int i = 0; i < gameNumRows; i++) {
+		for(int i = 0; i < initialStateTable.length; i++) {
 			
 			int[] tempInitial = this.initialStateTable[i];
 			
@@ -197,6 +380,10 @@ public class CAModel implements Model {
 			// store random row in the state table
 			this.initialStateTable[i] = resultBackToArray;
 		}
+
+		// rows were replaced in place, so any GOL engine needs to re-load the board (and it needs a new hash)
+		this.golEngineBoard = null;
+		this.golHashedBoard = null;
 		
 		// original code commented out below, this way was simpler to me but re-wrote to use
 		// a higher order function per requirements.. I need to take tylenol to read the above code :-)
@@ -240,37 +427,51 @@ public class CAModel implements Model {
 
 
 	/**
-	 * This method returns a new state for a cell given its neighborhood
+	 * This method returns a new state for a cell given its neighborhood, by looking it up in the
+	 * current Life-like rule's table (see setLifeRule). 
+	 * 
+	 * Note: numNeighbors comes from calc2DDensity(), which includes the cell itself if it's alive, 
+	 * so the cell is taken back off before indexing the table.
 	 * 
 	 * @param currentState - integer of the current cell being evaluated
-	 * @param numNeighbors - integer of that cell's number of neighbors
+	 * @param numNeighbors - integer of that cell's number of neighbors (including itself)
 	 * 
 	 * @return int - what the cell's new state should be given its neighborhood
 	 */
 	public int get2DRule(int currentState, int numNeighbors) {
 
-		switch(numNeighbors) {
-		case 0:
-			return 0; // 0 will always return 0, as if 0, no change, and if 1, die from loneliness :-(
-		case 1:
-			return 0; // same logic as 0
-		case 3:
-			return 1; // 3 is the condition for birth, so always return 1
+		// table entry is (state * 9) + neighbors not counting the cell
+		int self = (currentState == 1) ? 1 : 0;
+		return lifeRule.getTable()[(currentState * 9) + numNeighbors - self] & 0xFF;
+	}
+
+
+	/**
+	 * A method to set the Life-like rule the GOL runs (e.g., LifeRule.CONWAY, or LifeRule.parse("B36/S23")). 
+	 * Any GOL engine in use is switched over as well, taking effect on the next step. Generations rules
+	 * (more than 2 states) need an engine that can run them (ActiveCellLife or GenerationsLife), or none.
+	 * 
+	 * @param rule - a compiled LifeRule
+	 */
+	public void setLifeRule(LifeRule rule) {
+		if(golEngine != null) {
+			golEngine.setRule(rule);
+		}
 
-			// ---------- For cases 5 - 9, always return 0 as 'dead' due to over-population :-( ---------- //
-		case 5:
-			return 0;
-		case 6:
-			return 0;
-		case 7: 
-			return 0;
-		case 8: 
-			return 0;
-		case 9:
-			return 0;
-		default:
-			return currentState; // for default state, these conditions result in no birth or death, so keep cell's state the same
+		// cells in states the new rule doesn't have (e.g., going from a Generations rule back to a 2 state rule) die
+		int numStates = rule.getNumStates();
+		if(numStates < lifeRule.getNumStates()) {
+			for(int[] row : initialStateTable) {
+				for(int j = 0; j < row.length; j++) {
+					if(row[j] >= numStates) {
+						row[j] = 0;
+					}
+				}
+			}
+			this.golEngineBoard = null;
+			this.golHashedBoard = null;
 		}
+		this.lifeRule = rule;
 	}
 
 
@@ -281,8 +482,96 @@ public class CAModel implements Model {
 	 */
 	public int[][] recalcGameState() {
 
-		// use map method to make a new copy of the initial state
+		// use map method to make a new copy of the initial state, then calculate the new states into it
 		int[][] copy = Arrays.stream(initialStateTable).map(int[]::clone).toArray(int[][]::new);
+		calcGameStateInto(copy);
+
+		return copy; // return final copy, to be new state
+	}
+
+
+	/**
+	 * This method calculates the next GOL state without allocating anything. Two preallocated boards
+	 * take turns: the new state is written into whichever one is not the initial board, and becomes
+	 * the current board (see getCurrentGOLBoard()). Once it's drawn, setting the current board as the 
+	 * initial board (a reference swap) readies the model for the next call.
+	 */
+	public void advanceGameState() {
+
+		int rows = initialStateTable.length;
+		int cols = initialStateTable[0].length;
+
+		// (re)allocate the two boards if needed, this only happens when the board's dimensions change
+		if(golBufferA == null || golBufferA.length != rows || golBufferA[0].length != cols) {
+			golBufferA = new int[rows][cols];
+			golBufferB = new int[rows][cols];
+		}
+
+		int[][] newBoard = (initialStateTable == golBufferA) ? golBufferB : golBufferA;
+		int[][] oldBoard = initialStateTable;
+		calcGameStateInto(newBoard);
+		this.currentStateTable = newBoard;
+
+		// if hashing, update the hash for just the cells that flipped (if it's the old board's hash)
+		if(golZobrist != null) {
+			if(golHashedBoard == oldBoard) {
+				int[] changedCells = getGOLChangedCells();
+				if(changedCells != null) {
+					golHash = golZobrist.update(golHash, oldBoard, newBoard, changedCells, getGOLChangedCount());
+				} else {
+					golHash = golZobrist.update(golHash, oldBoard, newBoard);
+				}
+			} else {
+				golHash = golZobrist.hash(newBoard);
+			}
+			golHashedBoard = newBoard;
+		}
+
+	}
+
+
+	/**
+	 * Helper method that calculates the next GOL state from the initial state, writing it into the given board
+	 * 
+	 * @param newBoard - 2D array of integers, same dimensions as the initial board, to write the new state into
+	 */
+	private void calcGameStateInto(int[][] newBoard) {
+
+		int[][] oldBoard = initialStateTable;
+
+		// if an alternative engine is set, let it step (only re-loading when the board was changed elsewhere)
+		if(golEngine != null) {
+			if(golEngineBoard != oldBoard) {
+				golEngine.load(oldBoard);
+				golEngineTrailing = null;
+			}
+
+			// if the new board is a generation behind, the active cell engine only needs to update the cells that 
+			// changed: once to catch it up to the old board, and again after the step
+			if(golEngine instanceof ActiveCellLife && newBoard == golEngineTrailing) {
+				ActiveCellLife activeEngine = (ActiveCellLife) golEngine;
+				activeEngine.applyChangesTo(newBoard);
+				activeEngine.step();
+				activeEngine.applyChangesTo(newBoard);
+			} else {
+				golEngine.step();
+				golEngine.writeTo(newBoard);
+			}
+
+			golEngineTrailing = oldBoard;
+			golEngineBoard = newBoard;
+			return;
+		}
+
+		// border cells never change, so copy them over as they are
+		int lastRow = oldBoard.length - 1;
+		int lastCol = oldBoard[0].length - 1;
+		System.arraycopy(oldBoard[0], 0, newBoard[0], 0, lastCol + 1);
+		System.arraycopy(oldBoard[lastRow], 0, newBoard[lastRow], 0, lastCol + 1);
+		for(int i = 1; i < lastRow; i++) {
+			newBoard[i][0] = oldBoard[i][0];
+			newBoard[i][lastCol] = oldBoard[i][lastCol];
+		}
 
 		// loop through all (excluding border edges) to find our new states after changes
 		// note: doing this to not have to deal with the many edge cases where border cells
@@ -296,26 +585,231 @@ public class CAModel implements Model {
 
 				// calculate what the cell should change to, then set that in our new 2D array
 				int result = get2DRule(initialState, numNeighbors);
-				copy[i][j] = result;
+				newBoard[i][j] = result;
 			}
 		}
-		return copy; // return final copy, to be new state
+	}
+
+
+	/**
+	 * A method to switch the GOL between the int[][] implementation above and an alternative
+	 * engine (e.g., BitPackedLife). Engines produce the same boards as recalcGameState().
+	 * 
+	 * @param engine - a LifeEngine to use for recalcGameState(), or null for the default
+	 */
+	public void setGOLEngine(LifeEngine engine) {
+		if(engine != null) {
+			engine.setRule(lifeRule);
+		}
+		this.golEngine = engine;
+		this.golEngineBoard = null;
+		this.golEngineTrailing = null;
+	}
+
+
+	/**
+	 * Getter for the GOL engine in use
+	 * 
+	 * @return LifeEngine - the engine recalcGameState() steps with, or null for the int[][] implementation
+	 */
+	public LifeEngine getGOLEngine() {
+		return this.golEngine;
+	}
+
+
+	/**
+	 * A method to switch the GOL to the SIMD engine (VectorLife). That engine needs the incubating
+	 * jdk.incubator.vector module, so it's loaded by name: if the module wasn't added at startup,
+	 * the GOL falls back to the scalar int[][] implementation instead.
+	 * 
+	 * @return boolean - true if the SIMD engine is now in use, false if we fell back to scalar
+	 */
+	public boolean setVectorEngine() {
+		try {
+			LifeEngine engine = (LifeEngine) Class.forName("VectorLife").getDeclaredConstructor().newInstance();
+			setGOLEngine(engine);
+			return true;
+		} catch (ReflectiveOperationException | LinkageError e) {
+			setGOLEngine(null);
+			return false;
+		}
+	}
+
+
+	/**
+	 * Getter for the cells that changed in the last GOL step, when the GOL engine keeps track of 
+	 * them (see ActiveCellLife). Each cell is stored as (row * number of columns) + col.
+	 * 
+	 * @return int[] - changed cells (only the first getGOLChangedCount() are valid), or null if not tracked
+	 */
+	public int[] getGOLChangedCells() {
+		if(golEngine instanceof ActiveCellLife) {
+			return ((ActiveCellLife) golEngine).getChangedCells();
+		}
+		return null;
+	}
+
+
+	/**
+	 * Getter for the number of cells that changed in the last GOL step (see getGOLChangedCells)
+	 * 
+	 * @return int - number of changed cells, or 0 if not tracked
+	 */
+	public int getGOLChangedCount() {
+		if(golEngine instanceof ActiveCellLife) {
+			return ((ActiveCellLife) golEngine).getChangedCount();
+		}
+		return 0;
+	}
+
+	
+	/**
+	 * A method to turn Zobrist hashing of the GOL board on or off. While on, advanceGameState() keeps the
+	 * hash up to date for only the cells that flip (see getGOLHash()).
+	 * 
+	 * @param enabled - boolean, true to hash
+	 */
+	public void setGOLHashing(boolean enabled) {
+		if(!enabled) {
+			this.golZobrist = null;
+		} else if(golZobrist == null) {
+			this.golZobrist = new ZobristHash(initialStateTable.length * initialStateTable[0].length);
+		}
+		this.golHashedBoard = null;
+	}
+
+
+	/**
+	 * Getter for the current GOL board's Zobrist hash, hashing the whole board if it was set from outside
+	 * (boards changed in place outside the model should be set again with setCurrentGOLBoard())
+	 * 
+	 * @return long - the hash
+	 */
+	public long getGOLHash() {
+		if(golZobrist == null) {
+			throw new IllegalStateException("GOL hashing is off, see setGOLHashing()");
+		}
+		if(golHashedBoard != currentStateTable) {
+			this.golHash = golZobrist.hash(currentStateTable);
+			this.golHashedBoard = currentStateTable;
+		}
+		return this.golHash;
+	}
+
+
+
+	/**
+	 * A method to load a GOL pattern (RLE or plaintext, see PatternReader) straight into the initial board,
+	 * with its top left cell at the given row & column. If the pattern gives a rule, the GOL switches to it.
+	 * 
+	 * @param source - ReadableByteChannel to read the pattern from (not closed)
+	 * @param rowOffset - integer, the row the pattern's top row goes on (any part off the board is skipped)
+	 * @param colOffset - integer, the column the pattern's left column goes on
+	 * @param clear - boolean, true to clear the board first, false to stamp the pattern over what's there
+	 * @return PatternReader - the reader, for the pattern's size, rule & how many of its cells were off the board
+	 * @throws IOException - if reading the pattern fails
+	 */
+	public PatternReader loadPattern(ReadableByteChannel source, int rowOffset, int colOffset, boolean clear) 
+			throws IOException {
+
+		PatternReader reader = new PatternReader(source);
+		reader.readHeader();
+		if(reader.getRule() != null) {
+			setLifeRule(reader.getRule());
+		}
+
+		if(clear) {
+			for(int[] row : initialStateTable) {
+				Arrays.fill(row, 0);
+			}
+		}
+
+		try {
+			reader.readCells(initialStateTable, rowOffset, colOffset, lifeRule.getNumStates());
+		} finally {
+			// cells were written in place, so any GOL engine needs to re-load the board (and it needs a new hash)
+			this.golEngineBoard = null;
+			this.golHashedBoard = null;
+		}
+		return reader;
+	}
+
+
+	/**
+	 * A method to load a GOL pattern from a file, see loadPattern(ReadableByteChannel, int, int, boolean)
+	 * 
+	 * @param file - Path of the pattern file (.rle or .cells)
+	 * @param rowOffset - integer, the row the pattern's top row goes on (any part off the board is skipped)
+	 * @param colOffset - integer, the column the pattern's left column goes on
+	 * @param clear - boolean, true to clear the board first, false to stamp the pattern over what's there
+	 * @return PatternReader - the reader, for the pattern's size, rule & how many of its cells were off the board
+	 * @throws IOException - if reading the file fails
+	 */
+	public PatternReader loadPattern(Path file, int rowOffset, int colOffset, boolean clear) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return loadPattern(channel, rowOffset, colOffset, clear);
+		}
+	}
+
+
+	/**
+	 * A method to write the initial GOL board (the one on display) & its rule as an RLE pattern
+	 * 
+	 * @param out - WritableByteChannel to write the pattern to (not closed)
+	 * @throws IOException - if writing the pattern fails
+	 */
+	public void savePattern(WritableByteChannel out) throws IOException {
+		new PatternWriter(out).write(initialStateTable, lifeRule);
+	}
+
+
+	/**
+	 * A method to write the initial GOL board (the one on display) & its rule to an RLE file, replacing it
+	 * 
+	 * @param file - Path of the file to write
+	 * @throws IOException - if writing the file fails
+	 */
+	public void savePattern(Path file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, 
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			savePattern(channel);
+		}
 	}
 
 	
 	// --------------------------------- Basic Getters and Setters --------------------------------- //
 
 
+		/**
+		 * A method to seed the random number generator, so randomized boards & states can be repeated
+		 * 
+		 * @param seed - long, the seed
+		 */
+		public void setSeed(long seed) {
+			this.rand.setSeed(seed);
+		}
+
+
 		/**
 		 * Getter for the current rule
 		 * 
-		 * @return - a LinkedList of type Integer, this model's current rule
+		 * @return - an ElementaryRule, this model's current rule (null if no rule is set)
 		 */
-		public LinkedList<Integer> getRule() {
+		public ElementaryRule getRule() {
 			return this.rule;
 		}
 
 
+		/**
+		 * Getter for the GOL's Life-like rule
+		 * 
+		 * @return - a LifeRule, the rule the GOL currently runs
+		 */
+		public LifeRule getLifeRule() {
+			return this.lifeRule;
+		}
+
+
 		/**
 		 * Getter for the simple CA's base case
 		 * 
@@ -368,10 +862,10 @@ public class CAModel implements Model {
 
 
 		/**
-		 * A method to reset the current rule for the simple CA; sets it to a new empty LinkedList<Integer>
+		 * A method to reset the current rule for the simple CA; sets it back to null (no rule)
 		 */
 		public void resetRule() {
-			this.rule = new LinkedList<Integer>();
+			this.rule = null;
 		}
 
 
@@ -392,6 +886,7 @@ public class CAModel implements Model {
 		 */
 		public void setCurrentGOLBoard(int[][] newBoard) {
 			this.currentStateTable = newBoard;
+			this.golHashedBoard = null;
 		}
 
 }
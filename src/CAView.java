@@ -18,10 +18,12 @@ import java.awt.Component;
 import java.awt.Font;
 import java.awt.event.ActionListener;
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
 
 
 public class CAView extends JFrame implements View {
@@ -38,6 +40,12 @@ public class CAView extends JFrame implements View {
 	public static final int gameNumRows = 120;
 	public static final int gameNumCols = 80;
 
+	// choices for the animation speed, in the order CAController handles them
+	public static final String[] speedOptions = { "Classic speed", "30 gen/s", "120 gen/s", "Warp" };
+
+	// choices for the GOL's edges (a fixed border, or wrapping around as a torus), in the order CAController handles them
+	public static final String[] edgeOptions = { "Fixed", "Torus" };
+
 	// attributes for the entire window, which will consist of two JPanels for the options & animation panel
 	private JFrame window;
 	private JPanel optionsPanel;
@@ -54,6 +62,7 @@ public class CAView extends JFrame implements View {
 	private JLabel ruleMessage;
 	private JLabel borderText;
 	private JLabel gameOfLifeHeader;
+	private JLabel statusText;
 	
 	// JButtons for the simple CA rules
 	private JButton saveRuleButton;
@@ -66,6 +75,16 @@ public class CAView extends JFrame implements View {
 	private JButton animateGameOfLife;
 	private JButton pauseGameOfLife;
 	private JButton removeBoard; 
+	private JButton rewindGameOfLife;
+
+	// drop down list of Life-like rules for the Game of Life
+	private JComboBox<LifeRule> lifeRuleBox;
+
+	// drop down list of animation speeds (generations per second, for both animations)
+	private JComboBox<String> speedBox;
+
+	// drop down list of GOL edges
+	private JComboBox<String> edgesBox;
 
 
 	/**
@@ -217,6 +236,46 @@ public class CAView extends JFrame implements View {
 		removeBoard.setFocusable(false);
 		removeBoard.setText("Delete board.");
 
+		// drop down list to pick the GOL's rule, the classic rule is selected to start
+		lifeRuleBox = new JComboBox<LifeRule>(LifeRule.getPresets());
+		optionsPanel.add(lifeRuleBox);
+		lifeRuleBox.setBounds(10, 530, 200, 26);
+		lifeRuleBox.setVisible(true);
+		lifeRuleBox.setFont(new Font("Monospaced", Font.ITALIC, 12));
+		lifeRuleBox.setFocusable(false);
+
+		// drop down list to pick the animation speed, the classic speed is selected to start
+		speedBox = new JComboBox<String>(speedOptions);
+		optionsPanel.add(speedBox);
+		speedBox.setBounds(10, 565, 125, 26);
+		speedBox.setVisible(true);
+		speedBox.setFont(new Font("Monospaced", Font.ITALIC, 12));
+		speedBox.setFocusable(false);
+
+		// drop down list to pick the GOL's edges, the fixed border is selected to start
+		edgesBox = new JComboBox<String>(edgeOptions);
+		optionsPanel.add(edgesBox);
+		edgesBox.setBounds(140, 565, 70, 26);
+		edgesBox.setVisible(true);
+		edgesBox.setFont(new Font("Monospaced", Font.ITALIC, 12));
+		edgesBox.setFocusable(false);
+
+		// button to rewind the game a few generations
+		rewindGameOfLife = new JButton("rewindGOL");
+		optionsPanel.add(rewindGameOfLife);
+		rewindGameOfLife.setBounds(10, 600, 200, 26);
+		rewindGameOfLife.setVisible(true);
+		rewindGameOfLife.setFont(new Font("Monospaced", Font.ITALIC, 16));
+		rewindGameOfLife.setFocusable(false);
+		rewindGameOfLife.setText("Rewind game.");
+
+		// status line at the bottom, for anything that goes wrong (e.g., a recording that can't be written)
+		statusText = new JLabel();
+		statusText.setBounds(10, 630, optionsWIDTH-10, 36);
+		optionsPanel.add(statusText);
+		statusText.setForeground(new Color(171, 22, 22));
+		statusText.setFont(new Font("Monospaced", Font.BOLD, 11));
+
 		// initializing the game of life array to store JPanels
 		gameOfLifePanels = new JPanel[gameNumRows][gameNumCols];
 		initializeGOLPanels();
@@ -340,6 +399,18 @@ public class CAView extends JFrame implements View {
 	}
 
 
+	/**
+	 * A method to show a message in the options panel's status line (e.g., an error). It can be called
+	 * from any thread (e.g., the controller's scheduler), the label is set on Swing's event thread.
+	 * 
+	 * @param message - String to show, or null to clear the status line
+	 */
+	public void showStatus(String message) {
+		String text = (message == null) ? "" : "<html>" + message.replace("&", "&amp;").replace("<", "&lt;") + "</html>";
+		SwingUtilities.invokeLater(() -> statusText.setText(text));
+	}
+
+
 	// --------------------------- Method for Action Listeners on Buttons --------------------------- //
 	
 	/**
@@ -359,6 +430,12 @@ public class CAView extends JFrame implements View {
 		animateGameOfLife.addActionListener(clicks);
 		pauseGameOfLife.addActionListener(clicks);
 		removeBoard.addActionListener(clicks);
+		rewindGameOfLife.addActionListener(clicks);
+		lifeRuleBox.addActionListener(clicks);
+		edgesBox.addActionListener(clicks);
+
+		// both animations
+		speedBox.addActionListener(clicks);
 	}
 
 
@@ -405,6 +482,86 @@ public class CAView extends JFrame implements View {
 	}
 
 
+	/**
+	 * Getter for the button to rewind the GOL
+	 * 
+	 * @return - JButton
+	 */
+	public JButton getRewindGameOfLife() {
+		return this.rewindGameOfLife;
+	}
+
+
+	/**
+	 * Getter for the drop down list of GOL rules
+	 * 
+	 * @return - JComboBox of LifeRules
+	 */
+	public JComboBox<LifeRule> getLifeRuleBox() {
+		return this.lifeRuleBox;
+	}
+
+
+	/**
+	 * Getter for the GOL rule currently selected in the drop down list
+	 * 
+	 * @return - LifeRule
+	 */
+	public LifeRule getSelectedLifeRule() {
+		return (LifeRule) lifeRuleBox.getSelectedItem();
+	}
+
+
+	/**
+	 * Getter for the panel the animations are drawn on, for views that draw it differently
+	 * 
+	 * @return - JPanel
+	 */
+	protected JPanel getAnimationPanel() {
+		return this.animationPanel;
+	}
+
+
+	/**
+	 * Getter for the drop down list of animation speeds
+	 * 
+	 * @return - JComboBox of speed names
+	 */
+	public JComboBox<String> getSpeedBox() {
+		return this.speedBox;
+	}
+
+
+	/**
+	 * Getter for the position of the speed currently selected in the drop down list
+	 * 
+	 * @return - int, an index into speedOptions
+	 */
+	public int getSelectedSpeed() {
+		return speedBox.getSelectedIndex();
+	}
+
+
+	/**
+	 * Getter for the drop down list of GOL edges
+	 * 
+	 * @return - JComboBox of edge names
+	 */
+	public JComboBox<String> getEdgesBox() {
+		return this.edgesBox;
+	}
+
+
+	/**
+	 * Getter for the position of the GOL edges currently selected in the drop down list
+	 * 
+	 * @return - int, an index into edgeOptions
+	 */
+	public int getSelectedEdges() {
+		return edgesBox.getSelectedIndex();
+	}
+
+
 	/**
 	 * Getter for the button to save rule text from input box
 	 * 
@@ -0,0 +1,268 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: CanvasView Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a drop in replacement for CAView which draws both animations into a
+	   single BufferedImage instead of using a JPanel per "pixel". CAView adds a new JPanel
+	   for every live cell of every 1D generation (tens of thousands after a few minutes),
+	   and keeps a 120x80 grid of them for the GOL, so layout & repaint costs kept growing
+	   with the number of components. Here the animation panel holds one component, and the
+	   View methods write colors straight into the image's int[] raster, which that
+	   component draws in its paintComponent(). The options panel is the same as CAView's.
+
+	   The image is used as a ring buffer of pixel rows, so scrolling the 1D animation up
+	   doesn't move anything: shiftDisplay() just moves the row drawn at the top of the panel
+	   (clearing the rows that come back around at the bottom), and the image is painted in
+	   two blits, from that row down & then from the start of the image. Each new generation
+	   costs O(width) however much history is on screen, and it looks the same as before,
+	   newest row at the bottom with everything else (the GOL board too) moving up.
+
+	   Only what changes gets drawn: setting a GOL cell to the color it already has does
+	   nothing, and updateDisplay() repaints just the union of the squares drawn since the
+	   last update, so a mostly stable board costs next to nothing to show.
+
+	   Writes to the raster and painting it are synchronized on the image, since the
+	   controller draws from its own thread while Swing paints from the event thread.
+
+ ******/
+
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+
+
+public class CanvasView extends CAView {
+
+	// adding this serial version so that JFrame will not be cranky
+	private static final long serialVersionUID = 1L;
+
+	// top-left corner of the GOL board on the animation panel (the same spot as CAView's panels)
+	public static final int golX = 100;
+	public static final int golY = 115;
+
+	// the animation panel's background color, as an RGB int
+	private static final int BACKGROUND = new Color(28, 22, 120).getRGB();
+
+	// the image everything is drawn into, its raster (one RGB int per pixel, row by row), and the component showing it
+	private BufferedImage canvas;
+	private int[] pixels;
+	private int canvasWidth;
+	private int canvasHeight;
+	private JComponent canvasPanel;
+
+	// image row drawn at the top of the panel, the panel's row y is image row (top + y) % canvasHeight
+	private int top;
+
+	// union of everything drawn since the last update (panel coordinates), empty when dirtyRight <= dirtyLeft
+	private int dirtyLeft;
+	private int dirtyTop;
+	private int dirtyRight;
+	private int dirtyBottom;
+
+	// current color of each GOL cell as an RGB int, stored as (row * gameNumCols) + col, and whether the board is shown
+	private int[] golColors;
+	private boolean golDisplayed;
+
+
+	/**
+	 * No arg constructor for the view, builds the same window as CAView with a canvas on the animation panel
+	 */
+	public CanvasView() {
+
+		super();
+
+		JPanel animationPanel = getAnimationPanel();
+		this.canvasWidth = animationPanel.getWidth();
+		this.canvasHeight = animationPanel.getHeight();
+		this.canvas = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_RGB);
+		this.pixels = ((DataBufferInt) canvas.getRaster().getDataBuffer()).getData();
+		Arrays.fill(pixels, BACKGROUND);
+
+		// the one component on the animation panel, it just draws the image
+		canvasPanel = new JComponent() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void paintComponent(Graphics g) {
+				synchronized(canvas) {
+					int split = canvasHeight - top;
+					g.drawImage(canvas, 0, 0, canvasWidth, split, 0, top, canvasWidth, canvasHeight, null);
+					g.drawImage(canvas, 0, split, canvasWidth, canvasHeight, 0, 0, canvasWidth, top, null);
+				}
+			}
+		};
+		canvasPanel.setBounds(0, 0, canvasWidth, canvasHeight);
+		animationPanel.add(canvasPanel);
+		animationPanel.repaint();
+	}
+
+
+	// ---------------------------------- Display Related Methods ---------------------------------- //
+
+
+	/**
+	 * This method resets the GOL cells to white (called from CAView's constructor as well, so the image
+	 * may not exist yet)
+	 */
+	@Override
+	public void initializeGOLPanels() {
+		if(golColors == null) {
+			golColors = new int[gameNumRows * gameNumCols];
+		}
+		Arrays.fill(golColors, Color.white.getRGB());
+	}
+
+
+	/**
+	 * This method can be called to change any cell color for the game of life, it's drawn right away
+	 * if the board is displayed
+	 * 
+	 * @param i - integer representing the row index of cell to change
+	 * @param j - integer representing the col index of cell to change
+	 * @param c - Color object with the new color to set
+	 */
+	@Override
+	public void setGOLPanelColor(int i, int j, Color c) {
+		int rgb = c.getRGB();
+		int cell = (i * gameNumCols) + j;
+		if(golColors[cell] == rgb && golDisplayed) {
+			return;
+		}
+		golColors[cell] = rgb;
+		if(golDisplayed) {
+			fillBlock(golX + (i * pixelDimension), golY + (j * pixelDimension), rgb);
+		}
+	}
+
+
+	/**
+	 * Method to display the game of life board, draws every cell with its current color
+	 */
+	@Override
+	public void displayGOLBoard() {
+		this.golDisplayed = true;
+		for(int i = 0; i < gameNumRows; i++) {
+			for(int j = 0; j < gameNumCols; j++) {
+				fillBlock(golX + (i * pixelDimension), golY + (j * pixelDimension), golColors[(i * gameNumCols) + j]);
+			}
+		}
+	}
+
+
+	/**
+	 * Method to draw a "pixel" (a pixelDimension square) anywhere on the board
+	 * 
+	 * @param x - integer with the x coordinate for the top-left corner of the square
+	 * @param y - integer with the y coordinate for the top-left corner of the square
+	 * @param c - a Color object for the square's color
+	 */
+	@Override
+	public void addPixel(int x, int y, Color c) {
+		fillBlock(x, y, c.getRGB());
+	}
+
+
+	/**
+	 * A method to update the GUI's display, repaints the part of the canvas drawn on since the last update
+	 */
+	@Override
+	public void updateDisplay() {
+		synchronized(canvas) {
+			if(dirtyRight <= dirtyLeft) {
+				return;
+			}
+			canvasPanel.repaint(dirtyLeft, dirtyTop, dirtyRight - dirtyLeft, dirtyBottom - dirtyTop);
+			this.dirtyRight = dirtyLeft;
+		}
+	}
+
+
+	/**
+	 * A method to shift the display up by a constant (pixelDimension), the rows shifted off the top come
+	 * back around as the bottom rows, cleared for the next generation
+	 */
+	@Override
+	public void shiftDisplay() {
+		synchronized(canvas) {
+			for(int y = 0; y < pixelDimension; y++) {
+				int start = ((top + y) % canvasHeight) * canvasWidth;
+				Arrays.fill(pixels, start, start + canvasWidth, BACKGROUND);
+			}
+			this.top = (top + pixelDimension) % canvasHeight;
+			markDirty(0, 0, canvasWidth, canvasHeight);
+		}
+	}
+
+
+	/**
+	 * A method to clear the entire display (the GOL board too), then repaint
+	 */
+	@Override
+	public void clearDisplay() {
+		this.golDisplayed = false;
+		synchronized(canvas) {
+			Arrays.fill(pixels, BACKGROUND);
+			this.top = 0;
+			this.dirtyRight = dirtyLeft;
+		}
+		canvasPanel.repaint();
+	}
+
+
+	// -------------------------------------- Helper Methods --------------------------------------- //
+
+
+	/**
+	 * A helper method to fill a pixelDimension square of the panel, clipped to the panel (x & y are
+	 * panel coordinates, mapped to image rows through the ring buffer)
+	 */
+	private void fillBlock(int x, int y, int rgb) {
+
+		int left = Math.max(x, 0);
+		int right = Math.min(x + pixelDimension, canvasWidth);
+		int upper = Math.max(y, 0);
+		int lower = Math.min(y + pixelDimension, canvasHeight);
+		if(left >= right || upper >= lower) {
+			return;
+		}
+
+		synchronized(canvas) {
+			for(int row = upper; row < lower; row++) {
+				int start = ((top + row) % canvasHeight) * canvasWidth;
+				Arrays.fill(pixels, start + left, start + right, rgb);
+			}
+			markDirty(left, upper, right, lower);
+		}
+	}
+
+
+	/**
+	 * A helper method to add a rectangle (panel coordinates, right & bottom exclusive) to the area
+	 * repainted on the next update, call while holding the canvas lock
+	 */
+	private void markDirty(int left, int upper, int right, int lower) {
+		if(dirtyRight <= dirtyLeft) {
+			this.dirtyLeft = left;
+			this.dirtyTop = upper;
+			this.dirtyRight = right;
+			this.dirtyBottom = lower;
+		} else {
+			this.dirtyLeft = Math.min(dirtyLeft, left);
+			this.dirtyTop = Math.min(dirtyTop, upper);
+			this.dirtyRight = Math.max(dirtyRight, right);
+			this.dirtyBottom = Math.max(dirtyBottom, lower);
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: CycleDetector Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class spots when an animation starts repeating itself (e.g., a GOL board that has
+	   settled into still lifes & blinkers), from the hash of each generation (see
+	   ZobristHash). It keeps a bounded table from hash to the generation it was seen at;
+	   the first time a hash comes up again, the generations repeat from the earlier one
+	   with a period of the difference between them.
+
+	   The table is split into buckets of a few entries, picked by the hash's low bits. A full
+	   bucket replaces its oldest entry, so memory stays fixed, and cycles with periods well
+	   under the table's capacity are always found (the entries they need are the newest).
+
+	   Generations must be observed in increasing order, clear() before starting over (e.g.,
+	   after seeking, or changing the board or rule).
+
+******/
+
+
+import java.util.Arrays;
+
+
+public class CycleDetector {
+
+	// default number of entries, and entries per bucket
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+	private static final int WAYS = 4;
+
+	// hashes and the generations they were seen at (-1 for an empty entry), WAYS entries per bucket
+	private final long[] hashes;
+	private final long[] generations;
+	private final int bucketMask;
+
+	// the cycle found (period 0 if none yet), it repeats from cycleStart every period generations
+	private long period;
+	private long cycleStart;
+
+
+	/**
+	 * Constructor for the detector with the default capacity
+	 */
+	public CycleDetector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+
+	/**
+	 * Constructor for the detector
+	 *
+	 * @param capacity - integer, most generations remembered (rounded up to a power of 2, at least 4)
+	 */
+	public CycleDetector(int capacity) {
+
+		if(capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1, got " + capacity);
+		}
+
+		int rounded = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		int buckets = Math.max(rounded / WAYS, 1);
+		this.bucketMask = buckets - 1;
+		this.hashes = new long[buckets * WAYS];
+		this.generations = new long[buckets * WAYS];
+		clear();
+	}
+
+
+	// ------------------------------------- Detection Methods ------------------------------------- //
+
+
+	/**
+	 * A method to observe a generation's hash
+	 *
+	 * @param generation - long, the generation (higher than the last one observed)
+	 * @param hash - long, its hash
+	 * @return boolean - true if this generation is where the cycle was found (only once, see isCycleFound())
+	 */
+	public boolean observe(long generation, long hash) {
+
+		if(period != 0) {
+			return false;
+		}
+
+		int base = ((int) (hash ^ (hash >>> 32)) & bucketMask) * WAYS;
+		int oldest = base;
+		for(int k = base; k < base + WAYS; k++) {
+
+			// seen before, so it repeats from there
+			if(generations[k] >= 0 && hashes[k] == hash) {
+				this.period = generation - generations[k];
+				this.cycleStart = generations[k];
+				return true;
+			}
+
+			if(generations[k] < generations[oldest]) {
+				oldest = k;
+			}
+		}
+
+		hashes[oldest] = hash;
+		generations[oldest] = generation;
+		return false;
+	}
+
+
+	/**
+	 * A method to forget everything observed, including any cycle found
+	 */
+	public void clear() {
+		Arrays.fill(generations, -1);
+		this.period = 0;
+		this.cycleStart = -1;
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for whether a cycle was found
+	 *
+	 * @return boolean - true if a generation repeated
+	 */
+	public boolean isCycleFound() {
+		return this.period != 0;
+	}
+
+
+	/**
+	 * Getter for the cycle's period
+	 *
+	 * @return long - generations per repeat (1 for still lifes), or 0 if no cycle was found
+	 */
+	public long getPeriod() {
+		return this.period;
+	}
+
+
+	/**
+	 * Getter for the generation the cycle starts at
+	 *
+	 * @return long - the first generation that repeats, or -1 if no cycle was found
+	 */
+	public long getCycleStart() {
+		return this.cycleStart;
+	}
+
+
+	/**
+	 * Getter for the number of entries
+	 *
+	 * @return int - most generations remembered
+	 */
+	public int getCapacity() {
+		return this.hashes.length;
+	}
+
+}
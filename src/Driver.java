@@ -7,8 +7,9 @@ CA Animator: Driver Class
 Date: 4/15/2024
 
 Notes / Class Description: 
-	   This driver includes a main method to start the program. It initializes the
-	   model and view, which are then passed to the controller to run the program. 
+	   This driver includes a main method to start the program. It opens the view (see
+	   ViewLauncher), or if any command line options are given, it runs headless with
+	   BatchRunner instead.
        
 ******/
 
@@ -17,14 +18,14 @@ public class Driver {
 
 	public static void main(String[] args) {
 
-		// create model and view, then pass these over to the controller
-		CAModel model = new CAModel();
-		CAView view = new CAView();
-		CAController controller = new CAController(model, view);
-		
-		// call this method to await user choice from the controller
-		controller.choiceMenu();
-		
+		// with command line options, run a simulation without the view instead (see BatchRunner)
+		if(args.length > 0) {
+			BatchRunner.main(args);
+			return;
+		}
+
+		// otherwise open the view (kept out of this class, so a headless run never loads Swing)
+		ViewLauncher.launch();
 	}
 
 }
@@ -0,0 +1,129 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: ElementaryRule Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class represents a compiled simple (elementary) CA rule. The rule number's
+	   binary representation is stored in a primitive byte[8] lookup table, indexed by the
+	   3 cell neighborhood built with shifts. There are only 256 possible rules, so all of
+	   them are built once and cached; getting a rule never allocates anything.
+
+******/
+
+
+public class ElementaryRule {
+
+	// all 256 rules, built once when the class is loaded
+	private static final ElementaryRule[] CACHE = new ElementaryRule[256];
+
+	static {
+		for(int i = 0; i < 256; i++) {
+			CACHE[i] = new ElementaryRule(i);
+		}
+	}
+
+	// the rule number, and the lookup table of new states for each of the 8 neighborhoods
+	private final int number;
+	private final byte[] table;
+
+
+	/**
+	 * Private constructor, rules should be fetched with forNumber() so that the cached copy is used
+	 *
+	 * @param number - integer (0 - 255) of the rule to build
+	 */
+	private ElementaryRule(int number) {
+
+		this.number = number;
+		this.table = new byte[8];
+
+		// same ordering the original linked list rule had: index 0 holds the most significant bit,
+		// e.g., rule 10 = [1, 0, 1, 0] gives the table { 0, 0, 0, 0, 1, 0, 1, 0 }
+		for(int i = 0; i < 8; i++) {
+			table[i] = (byte) ((number >>> (7 - i)) & 1);
+		}
+	}
+
+
+	/**
+	 * A method to get the compiled rule for a given rule number
+	 *
+	 * @param ruleNum - integer between 0 - 255, inclusive
+	 * @return ElementaryRule - the cached rule for that number
+	 */
+	public static ElementaryRule forNumber(int ruleNum) {
+
+		if(ruleNum < 0 || ruleNum > 255) {
+			throw new IllegalArgumentException("Rule number must be between 0 - 255, got " + ruleNum);
+		}
+		return CACHE[ruleNum];
+	}
+
+
+	/**
+	 * A method to build the table index for a neighborhood of 3 cells (each 0 or 1)
+	 *
+	 * @param leftPos - the left most cell
+	 * @param centerPos - the center cell
+	 * @param rightPos - the right most cell
+	 * @return int - the neighborhood as a 3 bit number, between 0 - 7
+	 */
+	public static int getIndex(int leftPos, int centerPos, int rightPos) {
+		return (leftPos << 2) | (centerPos << 1) | rightPos;
+	}
+
+
+	/**
+	 * Getter for the new state of a cell given its neighborhood index
+	 *
+	 * @param index - integer between 0 - 7, see getIndex()
+	 * @return int - 0 or 1, the cell's new state
+	 */
+	public int getNewState(int index) {
+		return table[index];
+	}
+
+
+	/**
+	 * Getter for the new state of a cell given its neighborhood
+	 *
+	 * @param leftPos - the left most cell
+	 * @param centerPos - the center cell
+	 * @param rightPos - the right most cell
+	 * @return int - 0 or 1, the cell's new state
+	 */
+	public int getNewState(int leftPos, int centerPos, int rightPos) {
+		return table[(leftPos << 2) | (centerPos << 1) | rightPos];
+	}
+
+
+	/**
+	 * Getter for the rule number
+	 *
+	 * @return int - between 0 - 255
+	 */
+	public int getNumber() {
+		return this.number;
+	}
+
+
+	/**
+	 * toString method for the rule, lists the table in index order
+	 *
+	 * @return String - e.g., "Rule 10: [ 0, 0, 0, 0, 1, 0, 1, 0 ]"
+	 */
+	@Override
+	public String toString() {
+
+		String result = "Rule " + number + ": [";
+		for(int i = 0; i < 8; i++) {
+			result += " " + table[i] + ((i < 7) ? "," : " ]");
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,403 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: FrameExporter Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class records an animation through a FrameWriter (e.g., a GifWriter, or a
+	   RawFrameWriter for ffmpeg) without slowing the animation down. Adding a frame only
+	   copies its cells, one byte each, into a free buffer; the exporter's own thread then
+	   scales them up to pixels and hands them to the writer. There are a fixed number of
+	   buffers, made up front and handed back and forth like a LookaheadBuffer's, so memory
+	   stays the same however long a recording runs:
+
+	   		free buffers -> addRow() / addBoard() -> queued frames -> exporter thread writes -> free buffers
+
+	   If the writer falls behind and every buffer is queued, frames are either dropped (so
+	   an animation never waits, see getFramesDropped()) or waited for (so a headless run
+	   records every generation), picked when the exporter is made.
+
+	   Frames are a board of cells, or for the simple CA a row: the exporter keeps a window
+	   of the newest rows and each row shifts it up by one, like the view's display.
+
+******/
+
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+
+public class FrameExporter {
+
+	/**
+	 * A frame's cells as palette indices, a whole board or (for the simple CA) just a row
+	 */
+	private static class Frame {
+		final byte[] cells;
+		boolean row;
+
+		Frame(int numCells) {
+			this.cells = new byte[numCells];
+		}
+	}
+
+	// queued after the last frame, so the exporter thread knows to finish
+	private static final Frame END = new Frame(0);
+
+	// the format frames are written in, and where the exporter thread keeps its first error (null if none)
+	private final FrameWriter writer;
+	private volatile IOException error;
+
+	// frame dimensions in cells, pixels per cell (each way), and the palette cells index into
+	private final int numCols;
+	private final int numRows;
+	private final int scale;
+	private final int[] palette;
+
+	// buffers waiting to be filled, filled ones waiting to be written, and whether to drop frames when none are free
+	private final BlockingQueue<Frame> free;
+	private final BlockingQueue<Frame> queued;
+	private final boolean dropWhenFull;
+
+	// exporter thread only: the simple CA's window of rows (row r is at (top + r) % numRows), and the scaled frame
+	private final byte[] window;
+	private int top;
+	private final byte[] pixels;
+
+	// the exporter thread (null before start()), whether finish() was called, and frame counts
+	private Thread thread;
+	private volatile boolean finished;
+	private volatile long framesWritten;
+	private volatile long framesDropped;
+
+
+	/**
+	 * Constructor for the exporter, makes all of its buffers (it isn't started)
+	 *
+	 * @param writer - FrameWriter to write frames with, begun & finished by the exporter thread
+	 * @param numCols - integer for the frame width in cells
+	 * @param numRows - integer for the frame height in cells (for rows, how many are in the window)
+	 * @param palette - integer array of RGB colors, indexed by cell, at most 256
+	 * @param scale - integer, pixels per cell each way (at least 1)
+	 * @param queueSize - integer, the most frames waiting to be written (at least 1)
+	 * @param dropWhenFull - boolean, true to drop frames when the queue is full, false to wait for room
+	 */
+	public FrameExporter(FrameWriter writer, int numCols, int numRows, int[] palette, int scale, int queueSize,
+			boolean dropWhenFull) {
+
+		if(numCols < 1 || numRows < 1) {
+			throw new IllegalArgumentException("Frames must be at least 1x1 cells, got " + numCols + "x" + numRows);
+		}
+		if(palette.length < 1 || palette.length > 256) {
+			throw new IllegalArgumentException("Palettes have 1 - 256 colors, got " + palette.length);
+		}
+		if(scale < 1 || queueSize < 1) {
+			throw new IllegalArgumentException("Scale & queue size must be at least 1, got " + scale + " & " + queueSize);
+		}
+		if((long) numCols * numRows * scale * scale > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Frames of " + numCols + "x" + numRows + " cells at scale " + scale
+					+ " are too big");
+		}
+
+		this.writer = writer;
+		this.numCols = numCols;
+		this.numRows = numRows;
+		this.scale = scale;
+		this.palette = palette.clone();
+		this.free = new ArrayBlockingQueue<Frame>(queueSize);
+		this.queued = new ArrayBlockingQueue<Frame>(queueSize + 1);
+		this.dropWhenFull = dropWhenFull;
+		this.window = new byte[numCols * numRows];
+		this.top = 0;
+		this.pixels = new byte[numCols * numRows * scale * scale];
+		for(int i = 0; i < queueSize; i++) {
+			free.add(new Frame(numCols * numRows));
+		}
+	}
+
+
+	// ------------------------------------- Adding Frames ----------------------------------------- //
+
+
+	/**
+	 * A method to add a simple CA state as the next frame, the window shifts up & it goes in the bottom row
+	 *
+	 * @param state - integer array of 0s and 1s (palette indices), numCols long
+	 * @return boolean - true if it was queued, false if it was dropped (or the recording is over)
+	 */
+	public boolean addRow(int[] state) {
+
+		Frame frame = takeFree();
+		if(frame == null) {
+			return false;
+		}
+
+		byte[] cells = frame.cells;
+		for(int j = 0; j < numCols; j++) {
+			cells[j] = (byte) state[j];
+		}
+		frame.row = true;
+		queued.add(frame);
+		return true;
+	}
+
+
+	/**
+	 * A method to add a board as the next frame
+	 *
+	 * @param board - 2D array of integers (palette indices), numRows x numCols
+	 * @return boolean - true if it was queued, false if it was dropped (or the recording is over)
+	 */
+	public boolean addBoard(int[][] board) {
+		return addBoard(board, board, 0);
+	}
+
+
+	/**
+	 * A method to add a board as the next frame, each cell's palette index is (prior state * priorWeight) + state
+	 * (e.g., a priorWeight of 2 gives the 2 state GOL's birth & death colors, see CAController.drawGOLBoard())
+	 *
+	 * @param priorBoard - 2D array of integers, the board before, numRows x numCols
+	 * @param board - 2D array of integers, the board to add, numRows x numCols
+	 * @param priorWeight - integer, weight of the prior state in the palette index (0 to ignore it)
+	 * @return boolean - true if it was queued, false if it was dropped (or the recording is over)
+	 */
+	public boolean addBoard(int[][] priorBoard, int[][] board, int priorWeight) {
+
+		Frame frame = takeFree();
+		if(frame == null) {
+			return false;
+		}
+
+		byte[] cells = frame.cells;
+		for(int i = 0; i < numRows; i++) {
+			int[] prior = priorBoard[i];
+			int[] current = board[i];
+			int base = i * numCols;
+			for(int j = 0; j < numCols; j++) {
+				cells[base + j] = (byte) ((prior[j] * priorWeight) + current[j]);
+			}
+		}
+		frame.row = false;
+		queued.add(frame);
+		return true;
+	}
+
+
+	/**
+	 * Helper method to take a free buffer, waiting for one or not, or null if the frame can't be added
+	 */
+	private Frame takeFree() {
+
+		if(finished || error != null) {
+			return null;
+		}
+
+		Frame frame = free.poll();
+		if(frame == null && !dropWhenFull) {
+			try {
+				frame = free.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if(frame == null) {
+			framesDropped++;
+		}
+		return frame;
+	}
+
+
+	// ------------------------------------ Exporter Thread ---------------------------------------- //
+
+
+	/**
+	 * A method to start the exporter thread
+	 */
+	public synchronized void start() {
+
+		if(thread != null) {
+			throw new IllegalStateException("Exporter is already running");
+		}
+
+		thread = new Thread(this::export, "CA exporter");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	/**
+	 * A method to end the recording without waiting: frames already queued are still written, then the
+	 * writer is finished. Frames added after this are ignored.
+	 */
+	public synchronized void finish() {
+		if(!finished) {
+			this.finished = true;
+			queued.add(END);
+		}
+	}
+
+
+	/**
+	 * A method to end the recording & wait for the writer to finish
+	 *
+	 * @throws IOException - if writing any of the recording failed
+	 */
+	public void close() throws IOException {
+
+		finish();
+		Thread exporter;
+		synchronized(this) {
+			exporter = thread;
+		}
+		boolean interrupted = false;
+		while(exporter != null && exporter.isAlive()) {
+			try {
+				exporter.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if(error != null) {
+			throw error;
+		}
+	}
+
+
+	/**
+	 * The exporter thread's loop, writes queued frames until finish() (after an error, they're just freed)
+	 */
+	private void export() {
+
+		try {
+			writer.begin(numCols * scale, numRows * scale, palette);
+		} catch (IOException | RuntimeException e) {
+			fail(e);
+		}
+
+		while(true) {
+			Frame frame;
+			try {
+				frame = queued.take();
+			} catch (InterruptedException e) {
+				break;
+			}
+			if(frame == END) {
+				break;
+			}
+
+			if(error == null) {
+				try {
+					render(frame);
+					writer.writeFrame(pixels);
+					framesWritten++;
+				} catch (IOException | RuntimeException e) {
+					fail(e);
+				}
+			}
+			free.add(frame);
+		}
+
+		try {
+			writer.finish();
+		} catch (IOException | RuntimeException e) {
+			fail(e);
+		}
+	}
+
+
+	/**
+	 * Helper method to keep the first error, so close() can throw it
+	 */
+	private void fail(Exception e) {
+		if(error == null) {
+			this.error = (e instanceof IOException) ? (IOException) e : new IOException(e);
+		}
+	}
+
+
+	/**
+	 * Helper method to scale a frame's cells up into the pixels (rows go into the window first)
+	 */
+	private void render(Frame frame) {
+
+		byte[] cells = frame.cells;
+		if(frame.row) {
+			System.arraycopy(cells, 0, window, top * numCols, numCols);
+			this.top = (top + 1) % numRows;
+			cells = window;
+		}
+
+		int width = numCols * scale;
+		for(int r = 0; r < numRows; r++) {
+			int cellBase = (frame.row ? ((top + r) % numRows) : r) * numCols;
+			int pixelBase = r * scale * width;
+
+			// one row of pixels, then copies of it for the rest of the cell's height
+			for(int j = 0; j < numCols; j++) {
+				byte index = cells[cellBase + j];
+				int x = pixelBase + (j * scale);
+				for(int k = 0; k < scale; k++) {
+					pixels[x + k] = index;
+				}
+			}
+			for(int k = 1; k < scale; k++) {
+				System.arraycopy(pixels, pixelBase, pixels, pixelBase + (k * width), width);
+			}
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * A helper method to make a gray palette for cell states, dead (0) is white, live (1) is black, and
+	 * any decaying states fade from dark to light gray
+	 *
+	 * @param numStates - integer for the number of cell states (2 - 256)
+	 * @return int[] - palette of RGB colors, indexed by state
+	 */
+	public static int[] grayPalette(int numStates) {
+
+		if(numStates < 2 || numStates > 256) {
+			throw new IllegalArgumentException("Gray palettes have 2 - 256 states, got " + numStates);
+		}
+
+		int[] palette = new int[numStates];
+		palette[0] = 0xFFFFFF;
+		for(int state = 2; state < numStates; state++) {
+			int gray = 64 + ((160 * (state - 2)) / Math.max(1, numStates - 2));
+			palette[state] = (gray << 16) | (gray << 8) | gray;
+		}
+		return palette;
+	}
+
+
+	/**
+	 * Getter for the number of frames written
+	 *
+	 * @return long - frames the writer has been given
+	 */
+	public long getFramesWritten() {
+		return this.framesWritten;
+	}
+
+
+	/**
+	 * Getter for the number of frames dropped
+	 *
+	 * @return long - frames that weren't recorded because the queue was full
+	 */
+	public long getFramesDropped() {
+		return this.framesDropped;
+	}
+
+}
@@ -0,0 +1,26 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: FrameWriter Interface
+
+Date: 10/18/2026
+
+Notes / Interface Description: 
+	   This interface outlines what a recording format should be able to do. A FrameExporter
+	   calls these on its own thread, in order: begin() once, writeFrame() for each frame,
+	   then finish(). Frames are indexed, one byte per pixel, each an entry of the palette.
+       
+******/
+
+
+import java.io.IOException;
+
+
+public interface FrameWriter {
+
+	public void begin(int width, int height, int[] palette) throws IOException; // start the recording, palette entries are RGB ints (at most 256)
+	public void writeFrame(byte[] pixels) throws IOException; // write a frame of width * height palette indices, row by row
+	public void finish() throws IOException; // end the recording & close its output (called even if begin() wasn't)
+	
+}
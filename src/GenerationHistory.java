@@ -0,0 +1,480 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: GenerationHistory Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class keeps a bounded history of past generations (simple CA states or GOL boards)
+	   so an animation can be rewound, scrubbed or sought to any generation it still holds.
+	   Rather than a full copy per generation, it saves a keyframe every keyframeInterval
+	   generations, and in between only what changed: each generation is XORed with the one
+	   before it (cells that didn't change become 0) and run-length encoded, which is a few
+	   bytes per changed cell. Seeking decodes the nearest keyframe before the generation,
+	   then applies at most keyframeInterval - 1 deltas.
+
+	   Generations are kept in segments (a keyframe & the deltas after it), and when the
+	   history goes over its memory cap the oldest segments are dropped. Cells are stored as
+	   bytes, so states must be 0 - 255 (see LifeRule.MAX_STATES).
+
+	   Encoding (keyframes are encoded against an all 0 state):
+	   		repeated { varint run of unchanged cells, varint count of changed cells, that many XOR bytes }
+
+	   Note: not thread safe, record from one thread and only seek when it's stopped.
+
+******/
+
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+
+
+public class GenerationHistory {
+
+	// defaults, a keyframe every 64 generations and up to 128 MB of history
+	public static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+	public static final long DEFAULT_MAX_BYTES = 128L << 20;
+
+	// rough per object cost, counted towards the memory cap along with the encoded bytes
+	private static final int ARRAY_OVERHEAD = 16;
+	private static final int SEGMENT_OVERHEAD = 64;
+
+	// number of cells per generation, generations per keyframe, and the memory cap
+	private final int numCells;
+	private final int keyframeInterval;
+	private final long maxBytes;
+
+	// the segments, oldest first, and their total size
+	private final ArrayDeque<Segment> segments;
+	private long memoryUsed;
+
+	// the newest generation recorded, a scratch state for seeking, and a buffer to encode into
+	private final byte[] newest;
+	private final byte[] scratch;
+	private final byte[] encodeBuffer;
+
+
+	/**
+	 * Constructor for a history with the default keyframe interval & memory cap
+	 *
+	 * @param numCells - integer, number of cells per generation (the state's length, or rows * cols)
+	 */
+	public GenerationHistory(int numCells) {
+		this(numCells, DEFAULT_KEYFRAME_INTERVAL, DEFAULT_MAX_BYTES);
+	}
+
+
+	/**
+	 * Constructor for a history
+	 *
+	 * @param numCells - integer, number of cells per generation (the state's length, or rows * cols)
+	 * @param keyframeInterval - integer, generations per keyframe (at least 1, higher uses less memory but seeks slower)
+	 * @param maxBytes - long, memory cap, the oldest generations are dropped past this (the newest segment is always kept)
+	 */
+	public GenerationHistory(int numCells, int keyframeInterval, long maxBytes) {
+
+		if(numCells < 1) {
+			throw new IllegalArgumentException("History needs at least 1 cell, got " + numCells);
+		}
+		if(keyframeInterval < 1) {
+			throw new IllegalArgumentException("Keyframe interval must be at least 1, got " + keyframeInterval);
+		}
+
+		this.numCells = numCells;
+		this.keyframeInterval = keyframeInterval;
+		this.maxBytes = maxBytes;
+		this.segments = new ArrayDeque<Segment>();
+		this.memoryUsed = 0;
+		this.newest = new byte[numCells];
+		this.scratch = new byte[numCells];
+
+		// worst case, every other cell changed: 2 varints (up to 5 bytes each) & 1 byte per changed cell
+		this.encodeBuffer = new byte[(numCells * 6) + 16];
+	}
+
+
+	// ------------------------------------- Recording Methods ------------------------------------- //
+
+
+	/**
+	 * A method to record a simple CA state
+	 *
+	 * @param generation - long, the state's generation. If it isn't the one after the newest, anything from
+	 * 					   it on is dropped first (or everything, if there'd be a gap).
+	 * @param state - integer array of numCells states (0 - 255)
+	 */
+	public void record(long generation, int[] state) {
+		checkCells(state.length);
+		for(int i = 0; i < numCells; i++) {
+			scratch[i] = (byte) state[i];
+		}
+		append(generation);
+	}
+
+
+	/**
+	 * A method to record a GOL board, stored row by row
+	 *
+	 * @param generation - long, the board's generation (see record(long, int[]))
+	 * @param board - 2D array of integers with rows * cols = numCells, states 0 - 255
+	 */
+	public void record(long generation, int[][] board) {
+		checkCells(board.length * board[0].length);
+		int k = 0;
+		for(int[] row : board) {
+			for(int cell : row) {
+				scratch[k++] = (byte) cell;
+			}
+		}
+		append(generation);
+	}
+
+
+	/**
+	 * Helper method to add the generation in scratch to the history, as a keyframe or a delta from the newest
+	 */
+	private void append(long generation) {
+
+		if(!isEmpty() && generation != getNewestGeneration() + 1) {
+			if(generation > getNewestGeneration() || generation <= getOldestGeneration()) {
+				clear();
+			} else {
+				truncateAfter(generation - 1);
+			}
+		}
+
+		Segment last = segments.peekLast();
+		byte[] encoded;
+		if(last == null || last.count == keyframeInterval) {
+			encoded = encode(null, scratch);
+			last = new Segment(generation, keyframeInterval);
+			segments.addLast(last);
+			memoryUsed += SEGMENT_OVERHEAD;
+		} else {
+			encoded = encode(newest, scratch);
+		}
+
+		last.entries[last.count++] = encoded;
+		memoryUsed += encoded.length + ARRAY_OVERHEAD;
+		System.arraycopy(scratch, 0, newest, 0, numCells);
+
+		// drop the oldest segments while over the cap
+		while(memoryUsed > maxBytes && segments.size() > 1) {
+			memoryUsed -= segments.removeFirst().bytes();
+		}
+	}
+
+
+	/**
+	 * A method to drop every generation after the given one (e.g., before recording a different future)
+	 *
+	 * @param generation - long, the last generation to keep
+	 */
+	public void truncateAfter(long generation) {
+
+		if(isEmpty() || generation >= getNewestGeneration()) {
+			return;
+		}
+		if(generation < getOldestGeneration()) {
+			clear();
+			return;
+		}
+
+		while(segments.peekLast().firstGeneration > generation) {
+			memoryUsed -= segments.removeLast().bytes();
+		}
+
+		Segment last = segments.peekLast();
+		int keep = (int) (generation - last.firstGeneration) + 1;
+		for(int k = keep; k < last.count; k++) {
+			memoryUsed -= last.entries[k].length + ARRAY_OVERHEAD;
+			last.entries[k] = null;
+		}
+		last.count = keep;
+
+		decode(last, keep - 1, newest);
+	}
+
+
+	/**
+	 * A method to drop the whole history
+	 */
+	public void clear() {
+		segments.clear();
+		memoryUsed = 0;
+	}
+
+
+	// -------------------------------------- Seeking Methods -------------------------------------- //
+
+
+	/**
+	 * A method to get a past simple CA state
+	 *
+	 * @param generation - long, a generation the history holds (see contains())
+	 * @param state - integer array of numCells, the state is written into it
+	 */
+	public void seek(long generation, int[] state) {
+		checkCells(state.length);
+		decode(generation, scratch);
+		for(int i = 0; i < numCells; i++) {
+			state[i] = scratch[i] & 0xFF;
+		}
+	}
+
+
+	/**
+	 * A method to get a past GOL board
+	 *
+	 * @param generation - long, a generation the history holds (see contains())
+	 * @param board - 2D array of integers with rows * cols = numCells, the board is written into it
+	 */
+	public void seek(long generation, int[][] board) {
+		checkCells(board.length * board[0].length);
+		decode(generation, scratch);
+		int k = 0;
+		for(int[] row : board) {
+			for(int j = 0; j < row.length; j++) {
+				row[j] = scratch[k++] & 0xFF;
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to decode a generation into the given cells
+	 */
+	private void decode(long generation, byte[] cells) {
+
+		if(!contains(generation)) {
+			throw new IllegalArgumentException("History holds generations " + getOldestGeneration() + " - "
+					+ getNewestGeneration() + ", not " + generation);
+		}
+
+		// newest segments are the likeliest to be wanted, so search from the end
+		Iterator<Segment> it = segments.descendingIterator();
+		Segment segment = it.next();
+		while(segment.firstGeneration > generation) {
+			segment = it.next();
+		}
+		decode(segment, (int) (generation - segment.firstGeneration), cells);
+	}
+
+
+	/**
+	 * Helper method to decode entry index of a segment into the given cells (the keyframe, then each delta up to it)
+	 */
+	private void decode(Segment segment, int index, byte[] cells) {
+		Arrays.fill(cells, (byte) 0);
+		for(int k = 0; k <= index; k++) {
+			apply(segment.entries[k], cells);
+		}
+	}
+
+
+	// ------------------------------------- Encoding Methods ------------------------------------- //
+
+
+	/**
+	 * Helper method to run-length encode the XOR of two states
+	 *
+	 * @param previous - the state before (null for a keyframe, i.e., all 0s)
+	 * @param current - the new state
+	 * @return byte[] - the encoding, sized to fit
+	 */
+	private byte[] encode(byte[] previous, byte[] current) {
+
+		byte[] out = encodeBuffer;
+		int pos = 0;
+		int i = 0;
+		while(i < numCells) {
+
+			// cells that didn't change
+			int start = i;
+			while(i < numCells && xor(previous, current, i) == 0) {
+				i++;
+			}
+			if(i == numCells) {
+				break;
+			}
+			pos = writeVarint(out, pos, i - start);
+
+			// then cells that did, stored as the XOR
+			start = i;
+			while(i < numCells && xor(previous, current, i) != 0) {
+				i++;
+			}
+			pos = writeVarint(out, pos, i - start);
+			for(int k = start; k < i; k++) {
+				out[pos++] = xor(previous, current, k);
+			}
+		}
+		return Arrays.copyOf(out, pos);
+	}
+
+
+	/**
+	 * Helper method to XOR an encoding into a state
+	 */
+	private static void apply(byte[] encoded, byte[] cells) {
+		int pos = 0;
+		int i = 0;
+		while(pos < encoded.length) {
+
+			// read a varint for the unchanged run, then one for the changed run
+			int skip = 0;
+			for(int shift = 0; ; shift += 7) {
+				byte b = encoded[pos++];
+				skip |= (b & 0x7F) << shift;
+				if(b >= 0) {
+					break;
+				}
+			}
+			int changed = 0;
+			for(int shift = 0; ; shift += 7) {
+				byte b = encoded[pos++];
+				changed |= (b & 0x7F) << shift;
+				if(b >= 0) {
+					break;
+				}
+			}
+
+			i += skip;
+			for(int k = 0; k < changed; k++) {
+				cells[i++] ^= encoded[pos++];
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method for the XOR of one cell (the cell itself when there's no previous state)
+	 */
+	private static byte xor(byte[] previous, byte[] current, int i) {
+		return (previous == null) ? current[i] : (byte) (previous[i] ^ current[i]);
+	}
+
+
+	/**
+	 * Helper method to write an unsigned varint (7 bits per byte, high bit set if more follow)
+	 */
+	private static int writeVarint(byte[] out, int pos, int value) {
+		while((value & ~0x7F) != 0) {
+			out[pos++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out[pos++] = (byte) value;
+		return pos;
+	}
+
+
+	/**
+	 * Helper method to check a state or board is the right size
+	 */
+	private void checkCells(int cells) {
+		if(cells != numCells) {
+			throw new IllegalArgumentException("History is for " + numCells + " cells, got " + cells);
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * A method to check whether a generation can be sought
+	 *
+	 * @param generation - long, the generation
+	 * @return boolean - true if it's between the oldest & newest generations held
+	 */
+	public boolean contains(long generation) {
+		return !isEmpty() && generation >= getOldestGeneration() && generation <= getNewestGeneration();
+	}
+
+
+	/**
+	 * Getter for whether anything is recorded
+	 *
+	 * @return boolean - true if the history is empty
+	 */
+	public boolean isEmpty() {
+		return segments.isEmpty();
+	}
+
+
+	/**
+	 * Getter for the oldest generation held
+	 *
+	 * @return long - the generation, or -1 if the history is empty
+	 */
+	public long getOldestGeneration() {
+		return isEmpty() ? -1 : segments.peekFirst().firstGeneration;
+	}
+
+
+	/**
+	 * Getter for the newest generation held
+	 *
+	 * @return long - the generation, or -1 if the history is empty
+	 */
+	public long getNewestGeneration() {
+		if(isEmpty()) {
+			return -1;
+		}
+		Segment last = segments.peekLast();
+		return last.firstGeneration + last.count - 1;
+	}
+
+
+	/**
+	 * Getter for the (rough) memory used
+	 *
+	 * @return long - bytes, the encoded generations plus some per object overhead
+	 */
+	public long getMemoryUsed() {
+		return this.memoryUsed;
+	}
+
+
+	/**
+	 * Getter for the number of cells per generation
+	 *
+	 * @return int - the state's length, or rows * cols
+	 */
+	public int getNumCells() {
+		return this.numCells;
+	}
+
+
+	// -------------------------------------- Segment Class --------------------------------------- //
+
+
+	/**
+	 * A keyframe and the deltas after it, for consecutive generations starting at firstGeneration
+	 */
+	private static class Segment {
+
+		private final long firstGeneration;
+		private final byte[][] entries;
+		private int count;
+
+		private Segment(long firstGeneration, int keyframeInterval) {
+			this.firstGeneration = firstGeneration;
+			this.entries = new byte[keyframeInterval][];
+			this.count = 0;
+		}
+
+		// memory counted for this segment
+		private long bytes() {
+			long total = SEGMENT_OVERHEAD;
+			for(int k = 0; k < count; k++) {
+				total += entries[k].length + ARRAY_OVERHEAD;
+			}
+			return total;
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: GenerationsLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a Game of Life engine for multi-state "Generations" rules (see LifeRule),
+	   where cells that die decay through a number of states before they're dead again. It
+	   runs plain Life-like rules as well. Cells are stored one byte each in a HaloGrid (a
+	   quarter of the memory of the model's int[][]), and the board is stepped directly on
+	   those bytes, with the edges handled by a BoundaryMode like HaloLife.
+
+	   Only state 1 cells count as live neighbors, so each row first adds up the live cells in
+	   every column of the 3 rows around it; a cell's neighbor count is then the 3 column sums
+	   around it, minus itself. That's 3 state checks per cell rather than 9.
+
+******/
+
+
+public class GenerationsLife implements LifeEngine {
+
+	// what happens at the edges of the board
+	private BoundaryMode boundaryMode;
+
+	// the current board, and a preallocated board the next generation is written into
+	private HaloGrid grid;
+	private HaloGrid next;
+
+	// live cells in each column of the 3 rows around the row being stepped (halo columns included)
+	private int[] columnSums;
+
+	// the rule's lookup table, entry (state * 9) + neighbors is the new state
+	private byte[] ruleTable;
+
+
+	/**
+	 * Constructor for the engine, the board is sized when one is loaded
+	 *
+	 * @param boundaryMode - the BoundaryMode to use at the edges of the board
+	 */
+	public GenerationsLife(BoundaryMode boundaryMode) {
+		this.boundaryMode = boundaryMode;
+		this.ruleTable = LifeRule.CLASSIC.getTable();
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board (copied)
+	 *
+	 * @param board - a 2D array of integers, each a state of the current rule
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int rows = board.length;
+		int cols = board[0].length;
+
+		if(grid == null || grid.getNumRows() != rows || grid.getNumCols() != cols) {
+			this.grid = new HaloGrid(rows, cols);
+			this.next = new HaloGrid(rows, cols);
+			this.columnSums = new int[grid.getStride()];
+		}
+		grid.load(board);
+	}
+
+
+	/**
+	 * A method to write the current board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		grid.writeTo(board);
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation
+	 */
+	@Override
+	public void step() {
+
+		grid.fillHalo(boundaryMode);
+
+		byte[] src = grid.getCells();
+		byte[] dst = next.getCells();
+		byte[] table = ruleTable;
+		int[] sums = columnSums;
+		int stride = grid.getStride();
+		int numRows = grid.getNumRows();
+		int numCols = grid.getNumCols();
+
+		for(int i = 0; i < numRows; i++) {
+
+			// index of the row's left halo cell, real cells are rowStart + 1 to rowStart + numCols
+			int rowStart = grid.index(i, 0) - 1;
+
+			for(int c = 0; c < stride; c++) {
+				int k = rowStart + c;
+				sums[c] = live(src[k - stride]) + live(src[k]) + live(src[k + stride]);
+			}
+
+			for(int j = 1; j <= numCols; j++) {
+				int k = rowStart + j;
+				int neighbors = sums[j - 1] + sums[j] + sums[j + 1] - live(src[k]);
+				dst[k] = table[((src[k] & 0xFF) * 9) + neighbors];
+			}
+		}
+
+		// swap grids so the new generation becomes current
+		HaloGrid temp = grid;
+		this.grid = next;
+		this.next = temp;
+
+	}
+
+
+	/**
+	 * Helper method to count a cell as live, only state 1 is alive (decaying states aren't)
+	 */
+	private static int live(byte state) {
+		return (state == 1) ? 1 : 0;
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * A method to set the rule, takes effect on the next step. If the new rule has fewer states, cells
+	 * in states it doesn't have should be cleared (e.g., by loading a new board) before stepping.
+	 *
+	 * @param rule - the compiled LifeRule to step with, any number of states
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+		this.ruleTable = rule.getTable();
+	}
+
+
+	/**
+	 * Setter for the boundary mode, takes effect on the next step
+	 *
+	 * @param boundaryMode - the BoundaryMode to use
+	 */
+	public void setBoundaryMode(BoundaryMode boundaryMode) {
+		this.boundaryMode = boundaryMode;
+	}
+
+
+	/**
+	 * Getter for the boundary mode
+	 *
+	 * @return BoundaryMode - what happens at the edges of the board
+	 */
+	public BoundaryMode getBoundaryMode() {
+		return this.boundaryMode;
+	}
+
+
+	/**
+	 * Getter for the current grid, one byte per cell (read states with & 0xFF)
+	 *
+	 * @return HaloGrid - the current board, not a copy
+	 */
+	public HaloGrid getGrid() {
+		return this.grid;
+	}
+
+}
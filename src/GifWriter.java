@@ -0,0 +1,315 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: GifWriter Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class writes a recording as an animated GIF (looping forever), one frame at a time
+	   as they come in, so nothing but the last frame is kept no matter how long it runs.
+
+	   The palette becomes the GIF's global color table, and each frame is LZW compressed
+	   straight from its palette indices. Only the rectangle of pixels that changed since the
+	   last frame is written (the rest is left as it was), which is most of what keeps a
+	   GOL recording small. The LZW dictionary is a fixed size hash table from (prefix code,
+	   next index) to code, cleared whenever all 4096 codes are used.
+
+******/
+
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+
+public class GifWriter implements FrameWriter {
+
+	// LZW codes are at most 12 bits, and the dictionary's hash table has twice as many slots as codes
+	private static final int MAX_CODES = 1 << 12;
+	private static final int TABLE_BITS = 13;
+	private static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
+
+	// where the GIF goes, and the delay after each frame in hundredths of a second
+	private final OutputStream out;
+	private final int delay;
+
+	// frame dimensions, bits per color table index, and the last frame written (null before the first)
+	private int width;
+	private int height;
+	private int colorBits;
+	private byte[] previous;
+
+	// the LZW dictionary, a key of (prefix code << 8) | index (-1 for an empty slot) and its code
+	private final int[] dictKeys;
+	private final int[] dictCodes;
+
+	// codes waiting to be written as bytes, and the data sub-block being filled (at most 255 bytes)
+	private int bitBuffer;
+	private int bitCount;
+	private final byte[] block;
+	private int blockSize;
+
+
+	/**
+	 * Constructor for the writer
+	 *
+	 * @param out - OutputStream to write the GIF to, closed by finish()
+	 * @param delay - integer, hundredths of a second each frame is shown for (0 - 65535)
+	 */
+	public GifWriter(OutputStream out, int delay) {
+
+		if(delay < 0 || delay > 0xFFFF) {
+			throw new IllegalArgumentException("Delay must be 0 - 65535 hundredths of a second, got " + delay);
+		}
+
+		this.out = new BufferedOutputStream(out, 1 << 16);
+		this.delay = delay;
+		this.dictKeys = new int[1 << TABLE_BITS];
+		this.dictCodes = new int[1 << TABLE_BITS];
+		this.block = new byte[255];
+	}
+
+
+	// ----------------------------------- Recording Methods -------------------------------------- //
+
+
+	/**
+	 * A method to start the GIF, writes the header, global color table & looping extension
+	 *
+	 * @param width - integer for the frame width in pixels (1 - 65535)
+	 * @param height - integer for the frame height in pixels (1 - 65535)
+	 * @param palette - integer array of RGB colors, 1 - 256 of them
+	 */
+	@Override
+	public void begin(int width, int height, int[] palette) throws IOException {
+
+		if(width < 1 || height < 1 || width > 0xFFFF || height > 0xFFFF) {
+			throw new IllegalArgumentException("GIF frames must be 1 - 65535 pixels a side, got " + width + "x" + height);
+		}
+		if(palette.length < 1 || palette.length > 256) {
+			throw new IllegalArgumentException("GIF palettes have 1 - 256 colors, got " + palette.length);
+		}
+
+		this.width = width;
+		this.height = height;
+		this.colorBits = 1;
+		while((1 << colorBits) < palette.length) {
+			colorBits++;
+		}
+		this.previous = null;
+
+		// header & logical screen descriptor, with a global color table of 2^colorBits entries
+		out.write(new byte[] { 'G', 'I', 'F', '8', '9', 'a' });
+		writeShort(width);
+		writeShort(height);
+		out.write(0x80 | ((colorBits - 1) << 4) | (colorBits - 1));
+		out.write(0);
+		out.write(0);
+		for(int k = 0; k < (1 << colorBits); k++) {
+			int color = (k < palette.length) ? palette[k] : 0;
+			out.write(color >>> 16);
+			out.write(color >>> 8);
+			out.write(color);
+		}
+
+		// application extension to loop forever
+		out.write(new byte[] { 0x21, (byte) 0xFF, 11, 'N', 'E', 'T', 'S', 'C', 'A', 'P', 'E', '2', '.', '0', 3, 1, 0, 0, 0 });
+	}
+
+
+	/**
+	 * A method to write a frame, only the rectangle that changed since the last frame
+	 *
+	 * @param pixels - byte array of width * height palette indices, row by row
+	 */
+	@Override
+	public void writeFrame(byte[] pixels) throws IOException {
+
+		// find the rectangle that changed, or the whole frame if it's the first
+		int left = 0;
+		int top = 0;
+		int right = width - 1;
+		int bottom = height - 1;
+		if(previous == null) {
+			this.previous = new byte[width * height];
+		} else {
+			left = width;
+			top = height;
+			right = -1;
+			bottom = -1;
+			for(int y = 0; y < height; y++) {
+				int base = y * width;
+				for(int x = 0; x < width; x++) {
+					if(pixels[base + x] != previous[base + x]) {
+						left = Math.min(left, x);
+						right = Math.max(right, x);
+						top = Math.min(top, y);
+						bottom = y;
+					}
+				}
+			}
+
+			// nothing changed, but the frame still needs its delay, so rewrite one pixel
+			if(right < 0) {
+				left = 0;
+				top = 0;
+				right = 0;
+				bottom = 0;
+			}
+		}
+
+		// graphic control extension (leave the frame in place, then the delay) & image descriptor
+		out.write(new byte[] { 0x21, (byte) 0xF9, 4, 1 << 2 });
+		writeShort(delay);
+		out.write(0);
+		out.write(0);
+		out.write(0x2C);
+		writeShort(left);
+		writeShort(top);
+		writeShort(right - left + 1);
+		writeShort(bottom - top + 1);
+		out.write(0);
+
+		writeImageData(pixels, left, top, right, bottom);
+
+		for(int y = top; y <= bottom; y++) {
+			System.arraycopy(pixels, (y * width) + left, previous, (y * width) + left, right - left + 1);
+		}
+	}
+
+
+	/**
+	 * A method to end the GIF, writes the trailer (if it was begun), then flushes & closes the output
+	 */
+	@Override
+	public void finish() throws IOException {
+		if(width > 0) {
+			out.write(0x3B);
+		}
+		out.close();
+	}
+
+
+	// --------------------------------------- LZW Methods ----------------------------------------- //
+
+
+	/**
+	 * Helper method to LZW compress the pixels of a rectangle [left, right] x [top, bottom] as data sub-blocks
+	 */
+	private void writeImageData(byte[] pixels, int left, int top, int right, int bottom) throws IOException {
+
+		int minCodeSize = Math.max(2, colorBits);
+		int clearCode = 1 << minCodeSize;
+		int endCode = clearCode + 1;
+		int codeSize = minCodeSize + 1;
+		int nextCode = endCode + 1;
+
+		out.write(minCodeSize);
+		this.bitBuffer = 0;
+		this.bitCount = 0;
+		this.blockSize = 0;
+		Arrays.fill(dictKeys, -1);
+		writeCode(clearCode, codeSize);
+
+		int prefix = pixels[(top * width) + left] & 0xFF;
+		boolean first = true;
+		for(int y = top; y <= bottom; y++) {
+			int base = y * width;
+			for(int x = left; x <= right; x++) {
+
+				// the first pixel is already the prefix
+				if(first) {
+					first = false;
+					continue;
+				}
+
+				int index = pixels[base + x] & 0xFF;
+				int key = (prefix << 8) | index;
+				int slot = ((key * 0x9E3779B1) >>> (32 - TABLE_BITS));
+				while(dictKeys[slot] != -1 && dictKeys[slot] != key) {
+					slot = (slot + 1) & TABLE_MASK;
+				}
+
+				// the string so far plus this index is already a code, keep going
+				if(dictKeys[slot] == key) {
+					prefix = dictCodes[slot];
+					continue;
+				}
+
+				// otherwise write the string so far, and add it plus this index as a new code (or start over if full)
+				writeCode(prefix, codeSize);
+				if(nextCode == MAX_CODES) {
+					writeCode(clearCode, codeSize);
+					Arrays.fill(dictKeys, -1);
+					codeSize = minCodeSize + 1;
+					nextCode = endCode + 1;
+				} else {
+					if(nextCode >= (1 << codeSize)) {
+						codeSize++;
+					}
+					dictKeys[slot] = key;
+					dictCodes[slot] = nextCode++;
+				}
+				prefix = index;
+			}
+		}
+
+		writeCode(prefix, codeSize);
+		writeCode(endCode, codeSize);
+		if(bitCount > 0) {
+			writeByte(bitBuffer & 0xFF);
+		}
+		flushBlock();
+		out.write(0);
+	}
+
+
+	/**
+	 * Helper method to add a code to the bits waiting to be written, least significant bit first
+	 */
+	private void writeCode(int code, int size) throws IOException {
+		bitBuffer |= code << bitCount;
+		bitCount += size;
+		while(bitCount >= 8) {
+			writeByte(bitBuffer & 0xFF);
+			bitBuffer >>>= 8;
+			bitCount -= 8;
+		}
+	}
+
+
+	/**
+	 * Helper method to add a byte to the current data sub-block, writing it out once it's full
+	 */
+	private void writeByte(int b) throws IOException {
+		block[blockSize++] = (byte) b;
+		if(blockSize == block.length) {
+			flushBlock();
+		}
+	}
+
+
+	/**
+	 * Helper method to write out the current data sub-block (if it has anything in it)
+	 */
+	private void flushBlock() throws IOException {
+		if(blockSize > 0) {
+			out.write(blockSize);
+			out.write(block, 0, blockSize);
+			this.blockSize = 0;
+		}
+	}
+
+
+	/**
+	 * Helper method to write a 16 bit little endian value
+	 */
+	private void writeShort(int value) throws IOException {
+		out.write(value & 0xFF);
+		out.write((value >>> 8) & 0xFF);
+	}
+
+}
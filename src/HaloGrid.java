@@ -0,0 +1,199 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: HaloGrid Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a flat, row major grid of cells (one byte each) with an extra ring of
+	   "halo" cells around the outside. Before a step the halo is filled in based on a
+	   BoundaryMode, so every real cell has a full neighborhood and stepping code can read
+	   its 8 neighbors at fixed offsets without any bounds checks or edge cases.
+
+	   Real cell (i, j) is stored at index (i + 1) * stride + (j + 1), where stride = cols + 2.
+
+******/
+
+
+public class HaloGrid {
+
+	// number of real rows & columns, and the length of a stored row (real columns + 2 halo cells)
+	private final int numRows;
+	private final int numCols;
+	private final int stride;
+
+	// all cells, halo included
+	private final byte[] cells;
+
+
+	/**
+	 * Constructor for a grid of the given size (all cells start at 0)
+	 *
+	 * @param numRows - integer, number of real rows
+	 * @param numCols - integer, number of real columns
+	 */
+	public HaloGrid(int numRows, int numCols) {
+		this.numRows = numRows;
+		this.numCols = numCols;
+		this.stride = numCols + 2;
+		this.cells = new byte[(numRows + 2) * stride];
+	}
+
+
+	// ---------------------------------- Cell Access Methods ------------------------------------- //
+
+
+	/**
+	 * Returns the index of real cell (i, j) in the flat array
+	 */
+	public int index(int i, int j) {
+		return ((i + 1) * stride) + j + 1;
+	}
+
+
+	/**
+	 * Getter for a real cell's state
+	 */
+	public int get(int i, int j) {
+		return cells[index(i, j)] & 0xFF;
+	}
+
+
+	/**
+	 * Setter for a real cell's state (0 - 255)
+	 */
+	public void set(int i, int j, int state) {
+		cells[index(i, j)] = (byte) state;
+	}
+
+
+	/**
+	 * A method to copy a 2D board of the same dimensions into the real cells
+	 *
+	 * @param board - a 2D array of integers
+	 */
+	public void load(int[][] board) {
+		for(int i = 0; i < numRows; i++) {
+			int[] row = board[i];
+			int base = index(i, 0);
+			for(int j = 0; j < numCols; j++) {
+				cells[base + j] = (byte) row[j];
+			}
+		}
+	}
+
+
+	/**
+	 * A method to copy the real cells into a 2D board of the same dimensions
+	 *
+	 * @param board - a 2D array of integers
+	 */
+	public void writeTo(int[][] board) {
+		for(int i = 0; i < numRows; i++) {
+			int[] row = board[i];
+			int base = index(i, 0);
+			for(int j = 0; j < numCols; j++) {
+				row[j] = cells[base + j] & 0xFF;
+			}
+		}
+	}
+
+
+	// ------------------------------------- Halo Methods ----------------------------------------- //
+
+
+	/**
+	 * A method to fill the halo ring based on the given boundary mode. Only touches the halo,
+	 * so this costs about the same as the perimeter of the board.
+	 *
+	 * @param mode - the BoundaryMode to use
+	 */
+	public void fillHalo(BoundaryMode mode) {
+
+		int lastRow = numRows - 1;
+		int lastCol = numCols - 1;
+
+		// left & right halo columns of the real rows first
+		for(int i = 0; i < numRows; i++) {
+			int base = index(i, 0);
+			switch(mode) {
+			case TORUS:
+				cells[base - 1] = cells[base + lastCol];
+				cells[base + numCols] = cells[base];
+				break;
+			case REFLECT:
+				cells[base - 1] = cells[base];
+				cells[base + numCols] = cells[base + lastCol];
+				break;
+			default:
+				cells[base - 1] = 0;
+				cells[base + numCols] = 0;
+				break;
+			}
+		}
+
+		// then the top & bottom halo rows, copied as whole stored rows so the corners come along too
+		int top = 0;
+		int bottom = (numRows + 1) * stride;
+		switch(mode) {
+		case TORUS:
+			System.arraycopy(cells, (lastRow + 1) * stride, cells, top, stride);
+			System.arraycopy(cells, stride, cells, bottom, stride);
+			break;
+		case REFLECT:
+			System.arraycopy(cells, stride, cells, top, stride);
+			System.arraycopy(cells, (lastRow + 1) * stride, cells, bottom, stride);
+			break;
+		default:
+			java.util.Arrays.fill(cells, top, top + stride, (byte) 0);
+			java.util.Arrays.fill(cells, bottom, bottom + stride, (byte) 0);
+			break;
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the flat array of cells (halo included)
+	 *
+	 * @return byte[] - the cells, not a copy
+	 */
+	public byte[] getCells() {
+		return this.cells;
+	}
+
+
+	/**
+	 * Getter for the stride (length of one stored row, including its 2 halo cells)
+	 *
+	 * @return int - numCols + 2
+	 */
+	public int getStride() {
+		return this.stride;
+	}
+
+
+	/**
+	 * Getter for the number of real rows
+	 *
+	 * @return int - number of rows
+	 */
+	public int getNumRows() {
+		return this.numRows;
+	}
+
+
+	/**
+	 * Getter for the number of real columns
+	 *
+	 * @return int - number of columns
+	 */
+	public int getNumCols() {
+		return this.numCols;
+	}
+
+}
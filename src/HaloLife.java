@@ -0,0 +1,162 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: HaloLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a Game of Life engine built on HaloGrid, with a choice of what happens
+	   at the edges of the board: wrap around (torus), dead cells, or mirrored cells (see
+	   BoundaryMode). The halo is filled in before each step, so the inner loop is the same
+	   for every cell on the board; there are no bounds checks or edge branches, and every
+	   cell (including the edges) is stepped.
+
+******/
+
+
+public class HaloLife implements LifeEngine {
+
+	// what happens at the edges of the board
+	private BoundaryMode boundaryMode;
+
+	// the current board, and a preallocated board the next generation is written into
+	private HaloGrid grid;
+	private HaloGrid next;
+
+	// the rule's packed table, bit (state * 9) + neighbors is the new state
+	private int ruleMask;
+
+
+	/**
+	 * Constructor for the engine, the board is sized when one is loaded
+	 *
+	 * @param boundaryMode - the BoundaryMode to use at the edges of the board
+	 */
+	public HaloLife(BoundaryMode boundaryMode) {
+		this.boundaryMode = boundaryMode;
+		this.ruleMask = LifeRule.CLASSIC.getMask();
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board (copied)
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int rows = board.length;
+		int cols = board[0].length;
+
+		if(grid == null || grid.getNumRows() != rows || grid.getNumCols() != cols) {
+			this.grid = new HaloGrid(rows, cols);
+			this.next = new HaloGrid(rows, cols);
+		}
+		grid.load(board);
+	}
+
+
+	/**
+	 * A method to write the current board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		grid.writeTo(board);
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation
+	 */
+	@Override
+	public void step() {
+
+		grid.fillHalo(boundaryMode);
+
+		byte[] src = grid.getCells();
+		byte[] dst = next.getCells();
+		int stride = grid.getStride();
+		int numRows = grid.getNumRows();
+		int numCols = grid.getNumCols();
+		int mask = ruleMask;
+
+		for(int i = 0; i < numRows; i++) {
+
+			int start = grid.index(i, 0);
+			int end = start + numCols;
+
+			for(int k = start; k < end; k++) {
+				int neighbors = src[k - stride - 1] + src[k - stride] + src[k - stride + 1]
+						+ src[k - 1] + src[k + 1]
+						+ src[k + stride - 1] + src[k + stride] + src[k + stride + 1];
+				dst[k] = (byte) ((mask >>> ((src[k] * 9) + neighbors)) & 1);
+			}
+		}
+
+		// swap grids so the new generation becomes current
+		HaloGrid temp = grid;
+		this.grid = next;
+		this.next = temp;
+
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * A method to set the rule, takes effect on the next step
+	 *
+	 * @param rule - the compiled LifeRule to step with, must have 2 states
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+
+		if(rule.getNumStates() != 2) {
+			throw new IllegalArgumentException("HaloLife only runs 2 state rules, got " + rule);
+		}
+		this.ruleMask = rule.getMask();
+	}
+
+
+	/**
+	 * Setter for the boundary mode, takes effect on the next step
+	 *
+	 * @param boundaryMode - the BoundaryMode to use
+	 */
+	public void setBoundaryMode(BoundaryMode boundaryMode) {
+		this.boundaryMode = boundaryMode;
+	}
+
+
+	/**
+	 * Getter for the boundary mode
+	 *
+	 * @return BoundaryMode - what happens at the edges of the board
+	 */
+	public BoundaryMode getBoundaryMode() {
+		return this.boundaryMode;
+	}
+
+
+	/**
+	 * Getter for the current grid
+	 *
+	 * @return HaloGrid - the current board, not a copy
+	 */
+	public HaloGrid getGrid() {
+		return this.grid;
+	}
+
+}
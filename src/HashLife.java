@@ -0,0 +1,633 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: HashLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a HashLife engine for the Game of Life, for long runs of sparse or
+	   periodic patterns. The board is stored as a quadtree of "macrocells": a node of level k
+	   is a 2^k x 2^k square made of 4 level k-1 children. Nodes are hash-consed (there is only
+	   ever one node for a given set of 4 children), so repeated regions are stored once, and
+	   each node remembers its own future (its center, some number of generations later). This
+	   lets a single step jump 2^k generations at once.
+
+	   To keep memory capped on long runs the node table has a maximum size. Once it's passed,
+	   nodes that can no longer be reached from the current board are dropped after the step,
+	   along with any remembered results that point at them. If a single (large) step runs
+	   past twice the cap, the table & all remembered results are flushed on the spot; the
+	   step carries on correctly, it just has to redo some work.
+
+	   Note: unlike CAModel.recalcGameState(), HashLife runs on an unbounded plane. Nothing is
+	   fixed at the border, and cells which leave the loaded board keep evolving off screen;
+	   writeTo() only writes the part of the plane covered by the board. Because of that, rules
+	   with B0 (where empty space comes alive) can't be run on this engine.
+
+******/
+
+
+public class HashLife implements LifeEngine {
+
+	// default cap on the number of nodes kept in the table (each node is roughly 60 bytes)
+	public static final int DEFAULT_MAX_NODES = 1 << 21;
+
+	/**
+	 * A quadtree node. Level 0 nodes are single cells, every other level has 4 children.
+	 */
+	private static final class Node {
+
+		// level, children (null for level 0), and number of live cells
+		final int level;
+		final Node nw, ne, sw, se;
+		final long population;
+		final int hash;
+
+		// remembered future: the center of this node, 2^resultStep generations later
+		Node result;
+		int resultStep;
+
+		// next node in the same hash table bucket, and mark used when collecting unused nodes
+		Node chain;
+		boolean marked;
+
+		Node(int level, Node nw, Node ne, Node sw, Node se, long population, int hash) {
+			this.level = level;
+			this.nw = nw;
+			this.ne = ne;
+			this.sw = sw;
+			this.se = se;
+			this.population = population;
+			this.hash = hash;
+		}
+	}
+
+	// the two level 0 nodes, these are never stored in the table
+	private final Node dead;
+	private final Node alive;
+
+	// hash table of all canonical nodes (level 1 and up), chained through Node.chain
+	private Node[] table;
+	private int nodeCount;
+	private int maxNodes;
+
+	// cached empty node for each level
+	private Node[] emptyNodes;
+
+	// the current board, and the position of the root's top-left corner on the loaded board
+	private Node root;
+	private long rootRow;
+	private long rootCol;
+
+	// dimensions of the loaded board, generations per step (as a power of 2), and generations run so far
+	private int numRows;
+	private int numCols;
+	private int stepLog2;
+	private long generation;
+
+	// the rule's lookup table, entry (state * 9) + neighbors is the new state
+	private byte[] ruleTable;
+
+
+	/**
+	 * No argument constructor, uses the default node cap and steps 1 generation at a time
+	 */
+	public HashLife() {
+		this(DEFAULT_MAX_NODES);
+	}
+
+
+	/**
+	 * Constructor for a HashLife engine with a given node cap
+	 *
+	 * @param maxNodes - integer, once the table holds more nodes than this unused ones are collected
+	 */
+	public HashLife(int maxNodes) {
+
+		this.dead = new Node(0, null, null, null, null, 0, 0);
+		this.alive = new Node(0, null, null, null, null, 1, 1);
+
+		this.table = new Node[1 << 16];
+		this.nodeCount = 0;
+		this.maxNodes = maxNodes;
+		this.emptyNodes = new Node[64];
+		this.emptyNodes[0] = dead;
+
+		this.stepLog2 = 0;
+		this.generation = 0;
+		this.ruleTable = LifeRule.CLASSIC.getTable();
+
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board into the engine, the board's top-left cell becomes (0, 0) on the plane
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		this.numRows = board.length;
+		this.numCols = board[0].length;
+
+		// smallest level that covers the board (at least 3, so the root can always be stepped)
+		int level = 3;
+		while((1L << level) < Math.max(numRows, numCols)) {
+			level++;
+		}
+
+		this.root = build(board, level, 0, 0);
+		this.rootRow = 0;
+		this.rootCol = 0;
+		this.generation = 0;
+
+	}
+
+
+	/**
+	 * Recursive helper to build the node for the square of the board at (row, col) of a given level
+	 */
+	private Node build(int[][] board, int level, int row, int col) {
+
+		// squares completely off the board are empty
+		if(row >= numRows || col >= numCols) {
+			return empty(level);
+		}
+
+		if(level == 0) {
+			return (board[row][col] == 1) ? alive : dead;
+		}
+
+		int half = 1 << (level - 1);
+		return join(build(board, level - 1, row, col),
+				build(board, level - 1, row, col + half),
+				build(board, level - 1, row + half, col),
+				build(board, level - 1, row + half, col + half));
+	}
+
+
+	/**
+	 * A method to write the part of the plane covered by the loaded board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+
+		for(int i = 0; i < numRows; i++) {
+			java.util.Arrays.fill(board[i], 0);
+		}
+		paint(board, root, rootRow, rootCol);
+	}
+
+
+	/**
+	 * Recursive helper to write the live cells of a node onto the board, skipping empty or off board squares
+	 */
+	private void paint(int[][] board, Node node, long row, long col) {
+
+		long size = 1L << node.level;
+		if(node.population == 0 || row >= numRows || col >= numCols || row + size <= 0 || col + size <= 0) {
+			return;
+		}
+
+		if(node.level == 0) {
+			board[(int) row][(int) col] = 1;
+			return;
+		}
+
+		long half = size >>> 1;
+		paint(board, node.nw, row, col);
+		paint(board, node.ne, row, col + half);
+		paint(board, node.sw, row + half, col);
+		paint(board, node.se, row + half, col + half);
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by 2^stepLog2 generations (see setStepLog2)
+	 */
+	@Override
+	public void step() {
+
+		int j = stepLog2;
+
+		// grow the root until the pattern sits in its center quarter, with room to spread for
+		// 2^j generations (a cell can only spread 1 cell per generation), i.e., level >= j + 3
+		while(root.level < j + 3 || !isPadded(root)) {
+			long quarter = 1L << (root.level - 1);
+			root = centre(root);
+			rootRow -= quarter;
+			rootCol -= quarter;
+		}
+
+		// the successor is the root's center half, 2^j generations later
+		long offset = 1L << (root.level - 2);
+		root = successor(root, j);
+		rootRow += offset;
+		rootCol += offset;
+		generation += 1L << j;
+
+		// keep the table under its cap between steps
+		if(nodeCount > maxNodes) {
+			collect();
+		}
+	}
+
+
+	/**
+	 * Recursive method returning the center of a node (one level down), 2^j generations in the future.
+	 * Results are remembered on the node, so each node's future is only ever worked out once per step size.
+	 *
+	 * @param node - a node of level 2 or higher
+	 * @param j - how many generations to advance, as a power of 2 (capped at level - 2)
+	 * @return Node - the node's center, advanced
+	 */
+	private Node successor(Node node, int j) {
+
+		j = Math.min(j, node.level - 2);
+
+		if(node.result != null && node.resultStep == j) {
+			return node.result;
+		}
+
+		Node result;
+
+		if(node.population == 0) {
+			result = node.nw;
+		} else if(node.level == 2) {
+			result = life4x4(node);
+		} else {
+
+			// the 9 overlapping sub-squares one level down, in reading order
+			Node n00 = node.nw;
+			Node n01 = join(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw);
+			Node n02 = node.ne;
+			Node n10 = join(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne);
+			Node n11 = join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+			Node n12 = join(node.ne.sw, node.ne.se, node.se.nw, node.se.ne);
+			Node n20 = node.sw;
+			Node n21 = join(node.sw.ne, node.se.nw, node.sw.se, node.se.sw);
+			Node n22 = node.se;
+
+			// advance each of them (2^j generations, or half of that for the full step, see below)
+			Node c00 = successor(n00, j);
+			Node c01 = successor(n01, j);
+			Node c02 = successor(n02, j);
+			Node c10 = successor(n10, j);
+			Node c11 = successor(n11, j);
+			Node c12 = successor(n12, j);
+			Node c20 = successor(n20, j);
+			Node c21 = successor(n21, j);
+			Node c22 = successor(n22, j);
+
+			if(j < node.level - 2) {
+				// the 9 results are already 2^j generations on, just take the center of each group of 4
+				result = join(join(c00.se, c01.sw, c10.ne, c11.nw),
+						join(c01.se, c02.sw, c11.ne, c12.nw),
+						join(c10.se, c11.sw, c20.ne, c21.nw),
+						join(c11.se, c12.sw, c21.ne, c22.nw));
+			} else {
+				// full step: the 9 results are 2^(level - 3) generations on, so combine them into
+				// 4 squares and advance those the same amount again
+				result = join(successor(join(c00, c01, c10, c11), j),
+						successor(join(c01, c02, c11, c12), j),
+						successor(join(c10, c11, c20, c21), j),
+						successor(join(c11, c12, c21, c22), j));
+			}
+		}
+
+		node.result = result;
+		node.resultStep = j;
+		return result;
+	}
+
+
+	/**
+	 * Base case for successor(), works out 1 generation for the center 2x2 of a 4x4 (level 2) node
+	 */
+	private Node life4x4(Node node) {
+
+		// grid of the 16 cells, (row, col)
+		int[][] cells = new int[4][4];
+		Node[] quads = { node.nw, node.ne, node.sw, node.se };
+		for(int q = 0; q < 4; q++) {
+			int row = (q >>> 1) * 2;
+			int col = (q & 1) * 2;
+			cells[row][col] = (int) quads[q].nw.population;
+			cells[row][col + 1] = (int) quads[q].ne.population;
+			cells[row + 1][col] = (int) quads[q].sw.population;
+			cells[row + 1][col + 1] = (int) quads[q].se.population;
+		}
+
+		Node[] center = new Node[4];
+		for(int q = 0; q < 4; q++) {
+			int row = 1 + (q >>> 1);
+			int col = 1 + (q & 1);
+			int neighbors = -cells[row][col];
+			for(int i = row - 1; i <= row + 1; i++) {
+				for(int k = col - 1; k <= col + 1; k++) {
+					neighbors += cells[i][k];
+				}
+			}
+			center[q] = (ruleTable[(cells[row][col] * 9) + neighbors] == 1) ? alive : dead;
+		}
+
+		return join(center[0], center[1], center[2], center[3]);
+	}
+
+
+	/**
+	 * A method to set the rule. Remembered results were worked out with the old rule, so they're all forgotten.
+	 *
+	 * @param rule - the compiled LifeRule to step with, must have 2 states and can't have B0
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+
+		if(rule.getNumStates() != 2) {
+			throw new IllegalArgumentException("HashLife only runs 2 state rules, got " + rule);
+		}
+		if((rule.getBirth() & 1) == 1) {
+			throw new IllegalArgumentException("HashLife runs on an unbounded plane, so it can't run B0 rules (" + rule + ")");
+		}
+		this.ruleTable = rule.getTable();
+
+		// collecting first puts every node reachable from the board back in the table, so none are missed
+		if(root != null) {
+			collect();
+		}
+		for(Node head : table) {
+			for(Node n = head; n != null; n = n.chain) {
+				n.result = null;
+			}
+		}
+	}
+
+
+	// ----------------------------------- Node Table Methods ------------------------------------- //
+
+
+	/**
+	 * A method to get the canonical node with the 4 given children, creating it if needed
+	 */
+	private Node join(Node nw, Node ne, Node sw, Node se) {
+
+		int level = nw.level + 1;
+		int hash = hash(level, nw, ne, sw, se);
+		int bucket = hash & (table.length - 1);
+
+		for(Node n = table[bucket]; n != null; n = n.chain) {
+			if(n.nw == nw && n.ne == ne && n.sw == sw && n.se == se) {
+				return n;
+			}
+		}
+
+		// don't let a single step grow the table without bound
+		if(nodeCount > (maxNodes << 1)) {
+			flush();
+			bucket = hash & (table.length - 1);
+		}
+
+		Node node = new Node(level, nw, ne, sw, se, nw.population + ne.population + sw.population + se.population, hash);
+		node.chain = table[bucket];
+		table[bucket] = node;
+		nodeCount++;
+
+		if(nodeCount > table.length - (table.length >>> 2)) {
+			rehash(table.length << 1);
+		}
+		return node;
+	}
+
+
+	/**
+	 * Hash of a node from its level & its children's hashes
+	 */
+	private static int hash(int level, Node nw, Node ne, Node sw, Node se) {
+		int h = level;
+		h = h * 0x9E3779B1 + nw.hash;
+		h = h * 0x85EBCA77 + ne.hash;
+		h = h * 0xC2B2AE3D + sw.hash;
+		h = h * 0x27D4EB2F + se.hash;
+		return h ^ (h >>> 15);
+	}
+
+
+	/**
+	 * A method to move every node in the table into a new table of the given size
+	 */
+	private void rehash(int newSize) {
+
+		Node[] newTable = new Node[newSize];
+		for(Node head : table) {
+			Node n = head;
+			while(n != null) {
+				Node nextInChain = n.chain;
+				int bucket = n.hash & (newSize - 1);
+				n.chain = newTable[bucket];
+				newTable[bucket] = n;
+				n = nextInChain;
+			}
+		}
+		this.table = newTable;
+	}
+
+
+	/**
+	 * Returns the empty node of a given level
+	 */
+	private Node empty(int level) {
+		if(emptyNodes[level] == null) {
+			Node e = empty(level - 1);
+			emptyNodes[level] = join(e, e, e, e);
+		}
+		return emptyNodes[level];
+	}
+
+
+	/**
+	 * Returns a node one level up, with the given node in the center and empty space around it
+	 */
+	private Node centre(Node node) {
+		Node e = empty(node.level - 1);
+		return join(join(e, e, e, node.nw),
+				join(e, e, node.ne, e),
+				join(e, node.sw, e, e),
+				join(node.se, e, e, e));
+	}
+
+
+	/**
+	 * Checks whether all of a node's live cells are in its center quarter (the 4 innermost grandchildren)
+	 */
+	private boolean isPadded(Node node) {
+		return node.level >= 3
+				&& node.nw.population == node.nw.se.se.population
+				&& node.ne.population == node.ne.sw.sw.population
+				&& node.sw.population == node.sw.ne.ne.population
+				&& node.se.population == node.se.nw.nw.population;
+	}
+
+
+	/**
+	 * A method to drop every node that can't be reached from the current root (or the empty node cache).
+	 * Remembered results are only kept if the node they point to survives.
+	 */
+	private void collect() {
+
+		// walk everything reachable, putting it in a new table
+		Node[] oldTable = table;
+		this.table = new Node[oldTable.length];
+		this.nodeCount = 0;
+
+		mark(root);
+		for(Node e : emptyNodes) {
+			if(e != null) {
+				mark(e);
+			}
+		}
+
+		// drop results which point at nodes that didn't survive, then clear the marks for next time
+		for(Node head : table) {
+			for(Node n = head; n != null; n = n.chain) {
+				if(n.result != null && !n.result.marked) {
+					n.result = null;
+				}
+			}
+		}
+		for(Node head : table) {
+			for(Node n = head; n != null; n = n.chain) {
+				n.marked = false;
+			}
+		}
+
+		// shrink the table back down if it's mostly empty now
+		int size = 1 << 16;
+		while(size - (size >>> 2) < nodeCount) {
+			size <<= 1;
+		}
+		if(size < table.length) {
+			rehash(size);
+		}
+	}
+
+
+	/**
+	 * A method to empty the table and forget all remembered results, used in the middle of a step.
+	 * Nodes still in use keep working, they just aren't shared with nodes made after this.
+	 */
+	private void flush() {
+
+		for(Node head : table) {
+			Node n = head;
+			while(n != null) {
+				Node nextInChain = n.chain;
+				n.result = null;
+				n.chain = null;
+				n = nextInChain;
+			}
+		}
+		java.util.Arrays.fill(table, null);
+		this.nodeCount = 0;
+	}
+
+
+	/**
+	 * Recursive helper for collect(), marks a node & everything below it, adding them to the table
+	 */
+	private void mark(Node node) {
+		if(node.level == 0 || node.marked) {
+			return;
+		}
+		node.marked = true;
+
+		int bucket = node.hash & (table.length - 1);
+		node.chain = table[bucket];
+		table[bucket] = node;
+		nodeCount++;
+		if(nodeCount > table.length - (table.length >>> 2)) {
+			rehash(table.length << 1);
+		}
+
+		mark(node.nw);
+		mark(node.ne);
+		mark(node.sw);
+		mark(node.se);
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Setter for the step size, each call to step() will advance 2^stepLog2 generations
+	 *
+	 * @param stepLog2 - integer, 0 for single generations, 10 for 1024 at a time, etc.
+	 */
+	public void setStepLog2(int stepLog2) {
+		if(stepLog2 < 0 || stepLog2 > 60) {
+			throw new IllegalArgumentException("Step size must be between 2^0 and 2^60, got 2^" + stepLog2);
+		}
+		this.stepLog2 = stepLog2;
+	}
+
+
+	/**
+	 * Getter for the step size
+	 *
+	 * @return int - the power of 2 of generations advanced per step
+	 */
+	public int getStepLog2() {
+		return this.stepLog2;
+	}
+
+
+	/**
+	 * Setter for the node cap, extra nodes are collected after the next step
+	 *
+	 * @param maxNodes - integer, maximum number of nodes to keep between steps
+	 */
+	public void setMaxNodes(int maxNodes) {
+		this.maxNodes = maxNodes;
+	}
+
+
+	/**
+	 * Getter for the number of nodes currently in the table
+	 *
+	 * @return int - number of nodes
+	 */
+	public int getNodeCount() {
+		return this.nodeCount;
+	}
+
+
+	/**
+	 * Getter for the number of generations run since the board was loaded
+	 *
+	 * @return long - generation count
+	 */
+	public long getGeneration() {
+		return this.generation;
+	}
+
+
+	/**
+	 * Getter for the number of live cells on the whole plane (including any off the board)
+	 *
+	 * @return long - population
+	 */
+	public long getPopulation() {
+		return this.root.population;
+	}
+
+}
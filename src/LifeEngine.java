@@ -0,0 +1,24 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: LifeEngine Interface
+
+Date: 10/18/2026
+
+Notes / Interface Description: 
+	   This interface outlines what an alternative Game of Life (GOL) stepping engine should
+	   be able to do. Engines keep the board in whatever layout suits them, so boards are 
+	   loaded from, and written back to, the same int[][] format the model uses.
+       
+******/
+
+
+public interface LifeEngine {
+
+	public void load(int[][] board); // load a board (0 = "dead"; 1 = "alive") into the engine
+	public void step(); // advance the engine's board by one generation
+	public void writeTo(int[][] board); // write the engine's current board into a board of the same dimensions
+	public void setRule(LifeRule rule); // set the Life-like rule to step with (engines start out with LifeRule.CLASSIC)
+	
+}
@@ -0,0 +1,313 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: LifeRule Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class represents a compiled Life-like rule, given in B/S notation (e.g., "B3/S23"
+	   for Conway's Game of Life: a dead cell is born with 3 live neighbors, a live cell
+	   survives with 2 or 3). The older S/B notation ("23/3") is read as well.
+
+	   Rules from the "Generations" family are read too, with the number of states as a third
+	   part (e.g., "B2/S/C3" for Brian's Brain, or "/2/3" in S/B/C order). Live cells are
+	   state 1; a live cell which doesn't survive starts to decay, moving up one state every
+	   generation until it wraps back around to 0 (dead). Only state 1 cells count as live
+	   neighbors, and decaying cells can't be born.
+
+	   Each rule is compiled once into a lookup table, indexed by (state * 9) + the number of
+	   live neighbors (not counting the cell itself), so engines can switch rules without any
+	   per cell branching. For the usual 2 state rules that's 18 entries, which are also packed
+	   into the low 18 bits of an int (see getMask()) for engines which would rather shift than
+	   index an array.
+
+******/
+
+
+public class LifeRule {
+
+	// most states a rule can have, so that a state always fits in a byte (read back with & 0xFF)
+	public static final int MAX_STATES = 256;
+
+	// the rule the model has always run: its neighbor count includes the cell itself, so the
+	// original switch in CAModel.get2DRule() works out to B3/S123 rather than Conway's B3/S23
+	public static final LifeRule CLASSIC = new LifeRule("Classic", 1 << 3, (1 << 1) | (1 << 2) | (1 << 3), 2);
+
+	// some well known Life-like rules
+	public static final LifeRule CONWAY = parse("Conway", "B3/S23");
+	public static final LifeRule HIGH_LIFE = parse("HighLife", "B36/S23");
+	public static final LifeRule SEEDS = parse("Seeds", "B2/S");
+	public static final LifeRule DAY_AND_NIGHT = parse("Day & Night", "B3678/S34678");
+
+	// and some Generations rules
+	public static final LifeRule BRIANS_BRAIN = parse("Brian's Brain", "B2/S/C3");
+	public static final LifeRule STAR_WARS = parse("Star Wars", "B2/S345/C4");
+
+	// name, bit n set if a cell is born / survives with n neighbors, and the number of states (2 for Life-like rules)
+	private final String name;
+	private final int birth;
+	private final int survival;
+	private final int numStates;
+
+	// new state for each (state * 9) + neighbors, as an array and (for states 0 & 1) packed into an int
+	private final byte[] table;
+	private final int mask;
+
+
+	/**
+	 * Private constructor, rules should be made with parse() or taken from the constants above
+	 *
+	 * @param name - String, a display name for the rule (null to use the rule's B/S notation)
+	 * @param birth - integer, bit n set if a dead cell with n neighbors is born
+	 * @param survival - integer, bit n set if a live cell with n neighbors survives
+	 * @param numStates - integer, number of states (2 - MAX_STATES)
+	 */
+	private LifeRule(String name, int birth, int survival, int numStates) {
+
+		this.birth = birth;
+		this.survival = survival;
+		this.numStates = numStates;
+		this.name = (name == null) ? getNotation() : name;
+
+		// dead cells are entries 0 - 8, live cells are entries 9 - 17
+		this.mask = birth | (survival << 9);
+
+		// a live cell that doesn't survive dies outright with 2 states, otherwise it starts decaying (state 2),
+		// and decaying cells move up a state no matter what their neighbors are, wrapping back around to 0
+		this.table = new byte[numStates * 9];
+		for(int n = 0; n <= 8; n++) {
+			table[n] = (byte) ((birth >>> n) & 1);
+			table[9 + n] = (byte) ((((survival >>> n) & 1) == 1) ? 1 : (2 % numStates));
+			for(int state = 2; state < numStates; state++) {
+				table[(state * 9) + n] = (byte) ((state + 1) % numStates);
+			}
+		}
+	}
+
+
+	/**
+	 * A method to compile a rule from B/S notation (e.g., "B36/S23"), or S/B notation (e.g., "23/36").
+	 * Generations rules add the number of states, e.g., "B2/S/C3" or "/2/3".
+	 *
+	 * @param notation - String, the rule. Letters may be upper or lower case.
+	 * @return LifeRule - the compiled rule
+	 */
+	public static LifeRule parse(String notation) {
+		return parse(null, notation);
+	}
+
+
+	/**
+	 * A method to compile a rule from B/S or S/B notation (with an optional number of states), with a display name
+	 *
+	 * @param name - String, a display name for the rule (null to use the rule's B/S notation)
+	 * @param notation - String, the rule
+	 * @return LifeRule - the compiled rule
+	 */
+	public static LifeRule parse(String name, String notation) {
+
+		String text = notation.trim().toUpperCase();
+		String[] parts = text.split("/", -1);
+		if(parts.length != 2 && parts.length != 3) {
+			throw new IllegalArgumentException("Rule must look like B3/S23, 23/3 or B2/S/C3, got \"" + notation + "\"");
+		}
+
+		int birth;
+		int survival;
+		if(parts[0].startsWith("B") && parts[1].startsWith("S")) {
+			birth = parseCounts(parts[0].substring(1), notation);
+			survival = parseCounts(parts[1].substring(1), notation);
+		} else if(parts[0].startsWith("S") && parts[1].startsWith("B")) {
+			survival = parseCounts(parts[0].substring(1), notation);
+			birth = parseCounts(parts[1].substring(1), notation);
+		} else {
+			// S/B notation, survival first
+			survival = parseCounts(parts[0], notation);
+			birth = parseCounts(parts[1], notation);
+		}
+
+		int numStates = 2;
+		if(parts.length == 3) {
+			String states = parts[2].startsWith("C") ? parts[2].substring(1) : parts[2];
+			try {
+				numStates = Integer.parseInt(states);
+			} catch(NumberFormatException nfe) {
+				numStates = -1;
+			}
+			if(numStates < 2 || numStates > MAX_STATES) {
+				throw new IllegalArgumentException("Number of states must be 2 - " + MAX_STATES + ", got \"" + notation + "\"");
+			}
+		}
+
+		return new LifeRule(name, birth, survival, numStates);
+	}
+
+
+	/**
+	 * Helper method to turn a list of neighbor counts (e.g., "36") into a bit set
+	 */
+	private static int parseCounts(String counts, String notation) {
+
+		int bits = 0;
+		for(int i = 0; i < counts.length(); i++) {
+			int n = counts.charAt(i) - '0';
+			if(n < 0 || n > 8) {
+				throw new IllegalArgumentException("Neighbor counts must be 0 - 8, got \"" + notation + "\"");
+			}
+			bits |= 1 << n;
+		}
+		return bits;
+	}
+
+
+	/**
+	 * A method to get the rules offered in the view, classic first
+	 *
+	 * @return LifeRule[] - a new array of the built in rules
+	 */
+	public static LifeRule[] getPresets() {
+		return new LifeRule[] { CLASSIC, CONWAY, HIGH_LIFE, SEEDS, DAY_AND_NIGHT, BRIANS_BRAIN, STAR_WARS };
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for a cell's new state
+	 *
+	 * @param state - the cell's current state (0 - numStates - 1)
+	 * @param neighbors - number of live neighbors (0 - 8), not including the cell
+	 * @return int - the cell's new state
+	 */
+	public int getNewState(int state, int neighbors) {
+		return table[(state * 9) + neighbors] & 0xFF;
+	}
+
+
+	/**
+	 * Getter for the lookup table, entry (state * 9) + neighbors is the new state (read with & 0xFF
+	 * if the rule has more than 128 states)
+	 *
+	 * @return byte[] - the numStates * 9 entry table, not a copy (don't change it)
+	 */
+	public byte[] getTable() {
+		return this.table;
+	}
+
+
+	/**
+	 * Getter for the packed table, bit (state * 9) + neighbors is the new state. Only covers states 0 & 1,
+	 * so it's the whole rule for 2 state rules only.
+	 *
+	 * @return int - the table in the low 18 bits
+	 */
+	public int getMask() {
+		return this.mask;
+	}
+
+
+	/**
+	 * Getter for the birth counts
+	 *
+	 * @return int - bit n set if a dead cell with n neighbors is born
+	 */
+	public int getBirth() {
+		return this.birth;
+	}
+
+
+	/**
+	 * Getter for the survival counts
+	 *
+	 * @return int - bit n set if a live cell with n neighbors survives
+	 */
+	public int getSurvival() {
+		return this.survival;
+	}
+
+
+	/**
+	 * Getter for the number of states
+	 *
+	 * @return int - 2 for Life-like rules, more for Generations rules
+	 */
+	public int getNumStates() {
+		return this.numStates;
+	}
+
+
+	/**
+	 * Getter for the display name
+	 *
+	 * @return String - the rule's name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+
+	/**
+	 * A method to get the rule in B/S notation (B/S/C for Generations rules)
+	 *
+	 * @return String - e.g., "B36/S23" or "B2/S/C3"
+	 */
+	public String getNotation() {
+
+		String result = "B";
+		for(int n = 0; n <= 8; n++) {
+			if(((birth >>> n) & 1) == 1) {
+				result += n;
+			}
+		}
+		result += "/S";
+		for(int n = 0; n <= 8; n++) {
+			if(((survival >>> n) & 1) == 1) {
+				result += n;
+			}
+		}
+		if(numStates > 2) {
+			result += "/C" + numStates;
+		}
+		return result;
+	}
+
+
+	/**
+	 * equals method, rules are equal if they have the same counts & number of states (names don't matter)
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if(!(other instanceof LifeRule)) {
+			return false;
+		}
+		LifeRule rule = (LifeRule) other;
+		return rule.mask == this.mask && rule.numStates == this.numStates;
+	}
+
+
+	/**
+	 * hashCode method, consistent with equals()
+	 */
+	@Override
+	public int hashCode() {
+		return (this.mask * 31) + this.numStates;
+	}
+
+
+	/**
+	 * toString method for the rule, shown in the view's rule list
+	 *
+	 * @return String - e.g., "HighLife B36/S23"
+	 */
+	@Override
+	public String toString() {
+		if(name.equals(getNotation())) {
+			return name;
+		}
+		return name + " " + getNotation();
+	}
+
+}
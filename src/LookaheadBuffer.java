@@ -0,0 +1,271 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: LookaheadBuffer Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class keeps computed generations ahead of the renderer, so an animation frame
+	   never has to wait on a slow step. A producer thread fills buffers with the next
+	   generation (or generations, see CAController's warp mode) while the renderer takes
+	   finished ones at its own frame rate. There are a fixed number of buffers, made up
+	   front and handed back and forth, so the producer can only get so far ahead and
+	   no states or boards are allocated per generation:
+
+	   		free buffers -> producer fills the next generation -> ready buffers -> renderer draws -> release()
+
+	   While the producer runs it owns whatever it steps (e.g., the model), stop() waits for it
+	   to finish its current buffer, after which it's safe to touch again. The producer is only
+	   interrupted while it's waiting for a free buffer, never in the middle of a step (which
+	   could be waiting on threads of its own, or writing to a file that an interrupt would
+	   close). The producer says how many generations each buffer moved on, so the renderer
+	   knows which generation it's drawing.
+
+******/
+
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+
+public class LookaheadBuffer<T> {
+
+	// buffers waiting to be filled, and filled buffers waiting to be drawn (in order, with their generations)
+	private final BlockingQueue<T> free;
+	private final BlockingQueue<Ready<T>> ready;
+	private final int capacity;
+
+	// each buffer's holder in the ready queue, made up front & reused
+	private final Map<T, Ready<T>> holders;
+
+	// fills a buffer with the next generation, and the thread running it (null when stopped)
+	private final ToIntFunction<T> producer;
+	private final String name;
+	private Thread thread;
+
+	// whether the producer should keep going, and whether it's waiting for a free buffer (both guarded by stopLock)
+	private final Object stopLock;
+	private boolean running;
+	private boolean waiting;
+
+	// generation of the last buffer filled (producer thread), and of the last buffer taken (renderer)
+	private long producedGeneration;
+	private long takenGeneration;
+
+
+	/**
+	 * Constructor for the buffer, makes all of its buffers (it isn't started)
+	 * 
+	 * @param capacity - integer, the most generations that can be computed ahead (at least 1)
+	 * @param factory - Supplier that makes an empty buffer
+	 * @param producer - fills a buffer with the next generation & returns how many generations it moved on,
+	 * 					 called on the producer thread
+	 * @param name - String, a name for the producer thread
+	 * @param generation - long, the generation before the first buffer (e.g., the one on display)
+	 */
+	public LookaheadBuffer(int capacity, Supplier<T> factory, ToIntFunction<T> producer, String name, long generation) {
+
+		if(capacity < 1) {
+			throw new IllegalArgumentException("Lookahead must be at least 1 generation, got " + capacity);
+		}
+
+		this.capacity = capacity;
+		this.free = new ArrayBlockingQueue<T>(capacity);
+		this.ready = new ArrayBlockingQueue<Ready<T>>(capacity);
+		this.producer = producer;
+		this.name = name;
+		this.producedGeneration = generation;
+		this.takenGeneration = generation;
+		this.holders = new IdentityHashMap<T, Ready<T>>();
+		this.stopLock = new Object();
+		for(int i = 0; i < capacity; i++) {
+			T buffer = factory.get();
+			holders.put(buffer, new Ready<T>(buffer));
+			free.add(buffer);
+		}
+	}
+
+
+	// ------------------------------------ Producer Thread Methods ------------------------------------ //
+
+
+	/**
+	 * A method to start the producer thread, which fills buffers until they're all ready or it's stopped
+	 */
+	public synchronized void start() {
+
+		if(thread != null) {
+			throw new IllegalStateException("Lookahead is already running");
+		}
+
+		synchronized(stopLock) {
+			this.running = true;
+		}
+		thread = new Thread(this::produce, name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	/**
+	 * A method to stop the producer thread, waits for it to finish the buffer it's filling. Generations that
+	 * were computed but not taken are dropped (their buffers are freed).
+	 */
+	public synchronized void stop() {
+
+		if(thread == null) {
+			return;
+		}
+
+		// the producer stops between generations, it's only interrupted if it's waiting for a buffer
+		synchronized(stopLock) {
+			this.running = false;
+			if(waiting) {
+				thread.interrupt();
+			}
+		}
+		boolean interrupted = false;
+		while(thread.isAlive()) {
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		this.thread = null;
+		for(Ready<T> entry = ready.poll(); entry != null; entry = ready.poll()) {
+			free.add(entry.buffer);
+		}
+		this.producedGeneration = takenGeneration;
+
+		// keep the caller's interrupt, if it had one
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * The producer thread's loop, takes a free buffer, fills it, then passes it on as ready (there's always
+	 * room, there are only as many buffers as ready slots)
+	 */
+	private void produce() {
+		while(true) {
+
+			synchronized(stopLock) {
+				if(!running) {
+					return;
+				}
+				this.waiting = true;
+			}
+
+			T buffer;
+			try {
+				buffer = free.take();
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			// stop() may have interrupted just as a buffer came free, if so don't start another generation
+			synchronized(stopLock) {
+				this.waiting = false;
+				Thread.interrupted();
+				if(!running) {
+					free.add(buffer);
+					return;
+				}
+			}
+
+			producedGeneration += producer.applyAsInt(buffer);
+
+			Ready<T> entry = holders.get(buffer);
+			entry.generation = producedGeneration;
+			ready.add(entry);
+		}
+	}
+
+
+	// ------------------------------------ Renderer Methods ------------------------------------ //
+
+
+	/**
+	 * A method to take the next ready generation, without waiting
+	 * 
+	 * @return T - the buffer with the next generation (pass it to release() when done), or null if none are ready
+	 */
+	public T poll() {
+		Ready<T> entry = ready.poll();
+		if(entry == null) {
+			return null;
+		}
+		this.takenGeneration = entry.generation;
+		return entry.buffer;
+	}
+
+
+	/**
+	 * A method to give a buffer back to be filled again
+	 * 
+	 * @param buffer - T, a buffer from poll()
+	 */
+	public void release(T buffer) {
+		free.add(buffer);
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of generations ready to be taken
+	 * 
+	 * @return int - number of ready buffers
+	 */
+	public int getReadyCount() {
+		return ready.size();
+	}
+
+
+	/**
+	 * Getter for the generation of the last buffer taken
+	 * 
+	 * @return long - the generation in the buffer from the last poll() (or the starting generation)
+	 */
+	public long getGeneration() {
+		return this.takenGeneration;
+	}
+
+
+	/**
+	 * Getter for the number of buffers
+	 * 
+	 * @return int - the most generations that can be computed ahead
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+
+	// ------------------------------------ Ready Buffer Class ------------------------------------ //
+
+
+	/**
+	 * A filled buffer and the generation in it
+	 */
+	private static class Ready<T> {
+
+		private final T buffer;
+		private long generation;
+
+		private Ready(T buffer) {
+			this.buffer = buffer;
+		}
+	}
+
+}
@@ -21,19 +21,32 @@ public interface Model {
 	 */
 	public void setRule(int ruleNum); // set the CA rule given a rule number
 	public void resetRule(); // clear current CA rule
+	public ElementaryRule getRule(); // get the current compiled CA rule (null if none set)
 	public int getRuleIndex(int leftPos, int centerPos, int rightPos); // find rule index given 3 binary digits
 	public void setState(int[] newState); // change CA state given a new state
 	public int[] recalcState(); // calculate and return a new state based on current state
+	public void advanceState(); // calculate the next state in place (no allocation), it becomes the current state
+	public void setBitPackedEngine(boolean enabled); // switch simple CA stepping to the bit packed engine
+	public void setSimpleThreads(int numThreads); // number of threads the bit packed engine steps with
+	public void randomizeState(); // randomize the simple CA's current state (instead of the single live cell)
 	
 	/**
 	 * Required methods for the Game of Life (GOL) model
 	 */
 	public void randomizeBoard(); // randomize a new board for GOL
+	public void setSeed(long seed); // seed the random number generator, so random boards can be repeated
 	public void setInitialGOLBoard(int[][] newBoard); // setup a new initial state for GOL
 	public void setCurrentGOLBoard(int[][] newBoard); // setup a new current state for GOL
 	public int calc2DDensity(int rowIndex, int colIndex); // calculate density of a cell's neighborhood
 	public int get2DRule(int currentState, int numNeighbors); // return new state given current state num neighbors
+	public void setLifeRule(LifeRule rule); // set the Life-like (B/S) rule the GOL runs
 	public int[][] recalcGameState(); // calculate and return the next game state given current state
+	public void advanceGameState(); // calculate the next game state in place (no allocation), it becomes the current board
+	public void setGOLEngine(LifeEngine engine); // switch GOL stepping to an alternative engine (null for default)
+	public LifeEngine getGOLEngine(); // the GOL engine in use (null for the default)
+	public boolean setVectorEngine(); // switch GOL stepping to the SIMD engine, false if it fell back to scalar
+	public int[] getGOLChangedCells(); // cells changed in the last GOL step (null if the engine doesn't track them)
+	public int getGOLChangedCount(); // number of valid entries in getGOLChangedCells()
 	
 }
 
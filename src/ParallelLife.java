@@ -0,0 +1,211 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: ParallelLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a multi-core Game of Life engine. The board is split into horizontal
+	   bands of rows, and each band is worked out by BitPackedLife's bit parallel kernel on
+	   its own thread. Every band reads only the old generation and writes only its own rows,
+	   so the result does not depend on the number of threads or the order bands finish in;
+	   it is always identical to stepping on one thread. Each generation waits for all bands
+	   to finish (a barrier) before the buffers are swapped.
+
+******/
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+
+public class ParallelLife implements LifeEngine {
+
+	// bands smaller than this many rows aren't worth handing to another thread
+	private static final int MIN_BAND_ROWS = 64;
+
+	// the single threaded engine whose rows are split up between threads
+	private final BitPackedLife engine;
+
+	// the executor bands run on, whether we created it (and so should shut it down), and how many bands to aim for
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private final int numBands;
+
+	// one task per band, rebuilt only when a board with a different size is loaded
+	private List<Callable<Void>> bandTasks;
+
+
+	/**
+	 * Constructor for a parallel engine with its own ForkJoinPool
+	 *
+	 * @param numThreads - integer, the number of threads (and bands) to use
+	 */
+	public ParallelLife(int numThreads) {
+		this(new ForkJoinPool(numThreads), numThreads, true);
+	}
+
+
+	/**
+	 * Constructor for a parallel engine that runs on a provided executor (which the caller shuts down)
+	 *
+	 * @param executor - the ExecutorService to run bands on
+	 * @param numBands - integer, how many bands to split the board into (usually the executor's thread count)
+	 */
+	public ParallelLife(ExecutorService executor, int numBands) {
+		this(executor, numBands, false);
+	}
+
+
+	/**
+	 * Private constructor shared by the two above
+	 */
+	private ParallelLife(ExecutorService executor, int numBands, boolean ownsExecutor) {
+
+		if(numBands < 1) {
+			throw new IllegalArgumentException("Need at least 1 band, got " + numBands);
+		}
+
+		this.engine = new BitPackedLife();
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+		this.numBands = numBands;
+		this.bandTasks = new ArrayList<Callable<Void>>();
+
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board, splitting its interior rows into bands
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int oldRows = engine.getNumRows();
+		engine.load(board);
+
+		if(engine.getNumRows() != oldRows || bandTasks.isEmpty()) {
+			buildBands();
+		}
+	}
+
+
+	/**
+	 * A method to write the current board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		engine.writeTo(board);
+	}
+
+
+	/**
+	 * Helper method to split rows 1 to (numRows - 2) into (roughly equal) bands, one task each
+	 */
+	private void buildBands() {
+
+		int interiorRows = Math.max(engine.getNumRows() - 2, 0);
+		int bands = Math.max(1, Math.min(numBands, interiorRows / MIN_BAND_ROWS));
+
+		this.bandTasks = new ArrayList<Callable<Void>>(bands);
+		for(int b = 0; b < bands; b++) {
+			int fromRow = 1 + (int) (((long) interiorRows * b) / bands);
+			int toRow = 1 + (int) (((long) interiorRows * (b + 1)) / bands);
+			bandTasks.add(() -> {
+				engine.stepRows(fromRow, toRow);
+				return null;
+			});
+		}
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation, with every band worked out in parallel
+	 */
+	@Override
+	public void step() {
+
+		// a single band just runs on this thread
+		if(bandTasks.size() == 1) {
+			engine.step();
+			return;
+		}
+
+		// invokeAll waits for every band to finish, this is the barrier between generations
+		try {
+			List<Future<Void>> results = executor.invokeAll(bandTasks);
+			for(Future<Void> result : results) {
+				result.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for bands to finish", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A band failed to step", e.getCause());
+		}
+
+		engine.finishStep();
+	}
+
+
+	/**
+	 * A method to set the rule, shared by every band
+	 *
+	 * @param rule - the compiled LifeRule to step with
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+		engine.setRule(rule);
+	}
+
+
+	/**
+	 * A method to shut down the thread pool, if this engine created it
+	 */
+	public void shutdown() {
+		if(ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of bands the loaded board was split into
+	 *
+	 * @return int - number of bands
+	 */
+	public int getNumBands() {
+		return this.bandTasks.size();
+	}
+
+
+	/**
+	 * Getter for the underlying bit packed engine (e.g., for its packed words)
+	 *
+	 * @return BitPackedLife - the engine the bands share
+	 */
+	public BitPackedLife getEngine() {
+		return this.engine;
+	}
+
+}
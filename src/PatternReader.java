@@ -0,0 +1,511 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: PatternReader Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class reads a Game of Life pattern in either of the two standard formats, RLE
+	   (run length encoded, e.g. "x = 3, y = 3, rule = B3/S23" then "bo$2bo$3o!") or plaintext
+	   (.cells, '.' for dead and 'O' for live, one line per row), telling them apart from
+	   the first line that isn't a comment. Multi-state RLE ('.' for dead, 'A' - 'X' and
+	   'pA' - 'yO' for states 1 - 255) is read as well, for Generations rules.
+
+	   It streams the bytes straight from a channel through one small buffer and writes
+	   cells into the board as it goes, with no String or List made per line (only the RLE
+	   header line becomes a String, to read its rule), so even multi-megabyte patterns
+	   load in about the time it takes to read them.
+
+	   Cells are placed at an offset, so a pattern can be stamped into a board that's already
+	   filled: every cell the pattern spells out (dead or alive) is written, cells it leaves
+	   out (e.g., the dead cells at the end of an RLE row) are left as they were, and cells
+	   that land off the board are skipped (see getClippedCells()).
+
+	   Usage: readHeader() (e.g., to pick up the pattern's rule) then readCells().
+
+******/
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+
+public class PatternReader {
+
+	// size of the read buffer, and the longest RLE header line read
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int MAX_HEADER = 1 << 12;
+
+	// what each byte is in RLE (anything not listed is an error), looked up rather than compared one by one
+	private static final byte OTHER = 0, DIGIT = 1, SPACE = 2, NEWLINE = 3, COMMENT = 4, END = 5, ROW_END = 6,
+			DEAD = 7, LIVE = 8, STATE = 9, PREFIX = 10;
+	private static final byte[] RLE_KINDS = new byte[256];
+	static {
+		for(int c = '0'; c <= '9'; c++) {
+			RLE_KINDS[c] = DIGIT;
+		}
+		for(int c = 'a'; c <= 'z'; c++) {
+			RLE_KINDS[c] = (c >= 'p' && c <= 'y') ? PREFIX : LIVE;
+		}
+		for(int c = 'A'; c <= 'X'; c++) {
+			RLE_KINDS[c] = STATE;
+		}
+		RLE_KINDS[' '] = SPACE;
+		RLE_KINDS['\t'] = SPACE;
+		RLE_KINDS['\r'] = SPACE;
+		RLE_KINDS['\n'] = NEWLINE;
+		RLE_KINDS['#'] = COMMENT;
+		RLE_KINDS['!'] = END;
+		RLE_KINDS['$'] = ROW_END;
+		RLE_KINDS['b'] = DEAD;
+		RLE_KINDS['.'] = DEAD;
+	}
+
+	// where the pattern comes from, and a buffer of bytes read from it (the next is at pos, up to limit)
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final byte[] bytes;
+	private int pos;
+	private int limit;
+
+	// whether it's RLE (rather than plaintext), and whether the header & cells have been read
+	private boolean rle;
+	private boolean headerRead;
+	private boolean cellsRead;
+
+	// line the reader is on (for error messages), the header's size (-1 if not given) & rule (null if not given)
+	private int line;
+	private int headerWidth;
+	private int headerHeight;
+	private LifeRule rule;
+
+	// what readCells() found: the pattern's size, live (non 0) cells, and cells that were off the board
+	private int width;
+	private int height;
+	private long liveCells;
+	private long clippedCells;
+
+
+	/**
+	 * Constructor for the reader
+	 *
+	 * @param channel - ReadableByteChannel to read the pattern from (e.g., a FileChannel), not closed by the reader
+	 */
+	public PatternReader(ReadableByteChannel channel) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		this.bytes = buffer.array();
+		this.pos = 0;
+		this.limit = 0;
+		this.line = 1;
+		this.headerWidth = -1;
+		this.headerHeight = -1;
+	}
+
+
+	// ----------------------------------------- Reading ------------------------------------------- //
+
+
+	/**
+	 * A method to read everything before the first cell: comments, and for RLE the header line with the
+	 * pattern's size & rule
+	 *
+	 * @throws IOException - if reading the channel fails
+	 */
+	public void readHeader() throws IOException {
+
+		if(headerRead) {
+			return;
+		}
+		this.headerRead = true;
+
+		boolean rleComments = false;
+		while(true) {
+			int c = next();
+			if(c == '\n') {
+				this.line++;
+				continue;
+			} else if(c == '\r' || c == ' ' || c == '\t') {
+				continue;
+			}
+			if(c == '#') {
+				rleComments = true;
+				skipLine();
+			} else if(c == '!' && !rleComments) {
+				skipLine();
+			} else if(c == 'x') {
+				this.rle = true;
+				parseHeader();
+				return;
+			} else {
+				// the first cell, a plaintext row unless it's RLE with no header
+				this.rle = rleComments || (c != '.' && c != 'O' && c != '*' && c != -1);
+				unread(c);
+				return;
+			}
+		}
+	}
+
+
+	/**
+	 * A method to read the pattern's cells into a board, reads the header first if it hasn't been
+	 *
+	 * @param board - 2D array of integers to write cells into (cells landing off it are skipped)
+	 * @param rowOffset - integer, the board row the pattern's top row goes on (can be negative)
+	 * @param colOffset - integer, the board column the pattern's left column goes on (can be negative)
+	 * @param numStates - integer, states the board's rule has (a cell in any other state is an error)
+	 * @throws IOException - if reading the channel fails
+	 */
+	public void readCells(int[][] board, int rowOffset, int colOffset, int numStates) throws IOException {
+
+		if(cellsRead) {
+			throw new IllegalStateException("The pattern's cells were already read");
+		}
+		readHeader();
+		this.cellsRead = true;
+
+		if(rle) {
+			readRLE(board, rowOffset, colOffset, numStates);
+		} else {
+			readPlaintext(board, rowOffset, colOffset, numStates);
+		}
+	}
+
+
+	/**
+	 * Helper method to read RLE cells, runs of "<count><tag>" ending with '!'
+	 */
+	private void readRLE(int[][] board, int rowOffset, int colOffset, int numStates) throws IOException {
+
+		int row = 0;
+		int col = 0;
+		long count = 0;
+		boolean lineStart = false;
+
+		while(true) {
+			int c = next();
+			int kind = (c < 0) ? END : RLE_KINDS[c];
+
+			if(kind == DIGIT) {
+				count = (count * 10) + (c - '0');
+				if(count > Integer.MAX_VALUE) {
+					throw error("Run length too long");
+				}
+				lineStart = false;
+				continue;
+			} else if(kind == SPACE) {
+				continue;
+			} else if(kind == NEWLINE) {
+				this.line++;
+				lineStart = true;
+				continue;
+			} else if(kind == COMMENT && lineStart) {
+				skipLine();
+				continue;
+			} else if(kind == END) {
+				break;
+			}
+
+			int run = (count == 0) ? 1 : (int) count;
+			count = 0;
+			lineStart = false;
+
+			int state;
+			if(kind == ROW_END) {
+				row += run;
+				col = 0;
+				continue;
+			} else if(kind == DEAD) {
+				state = 0;
+			} else if(kind == LIVE) {
+				state = 1;
+			} else if(kind == STATE) {
+				state = c - 'A' + 1;
+			} else if(kind == PREFIX && peek() >= 'A' && peek() <= 'X') {
+				state = (24 * (c - 'p' + 1)) + (next() - 'A' + 1);
+			} else if(kind == PREFIX) {
+				// like 'o', any other lower case letter is a live cell
+				state = 1;
+			} else {
+				throw error("Unexpected '" + (char) c + "' in RLE");
+			}
+
+			if(state >= numStates) {
+				throw error("State " + state + " isn't in the rule, which has " + numStates + " states");
+			}
+			putRun(board, rowOffset + row, colOffset + col, run, state);
+			col += run;
+			if(col > width) {
+				this.width = col;
+			}
+			if(row >= height) {
+				this.height = row + 1;
+			}
+		}
+	}
+
+
+	/**
+	 * Helper method to read plaintext cells, one row per line ('!' lines are comments)
+	 */
+	private void readPlaintext(int[][] board, int rowOffset, int colOffset, int numStates) throws IOException {
+
+		int row = 0;
+		int col = 0;
+		boolean lineStart = true;
+
+		while(true) {
+			int c = next();
+
+			if(c == -1) {
+				break;
+			} else if(c == '\n') {
+				this.line++;
+				row++;
+				col = 0;
+				lineStart = true;
+				continue;
+			} else if(c == '\r' || c == ' ' || c == '\t') {
+				continue;
+			} else if(c == '!' && lineStart) {
+				skipLine();
+				continue;
+			}
+
+			int state;
+			if(c == '.') {
+				state = 0;
+			} else if(c == 'O' || c == 'o' || c == '*') {
+				state = 1;
+			} else {
+				throw error("Unexpected '" + (char) c + "' in plaintext, cells are '.' or 'O'");
+			}
+
+			if(state >= numStates) {
+				throw error("State " + state + " isn't in the rule, which has " + numStates + " states");
+			}
+			putRun(board, rowOffset + row, colOffset + col, 1, state);
+			col++;
+			this.width = Math.max(width, col);
+			this.height = Math.max(height, row + 1);
+			lineStart = false;
+		}
+	}
+
+
+	/**
+	 * Helper method to write a run of cells along a board row, skipping any that are off the board
+	 */
+	private void putRun(int[][] board, int boardRow, int boardCol, int run, int state) {
+
+		if(state != 0) {
+			liveCells += run;
+		}
+
+		if(boardRow < 0 || boardRow >= board.length) {
+			clippedCells += run;
+			return;
+		}
+
+		int[] cells = board[boardRow];
+		long from = Math.max(boardCol, 0);
+		long to = Math.min((long) boardCol + run, cells.length);
+		if(to <= from) {
+			clippedCells += run;
+			return;
+		}
+		clippedCells += run - (to - from);
+		for(int j = (int) from; j < to; j++) {
+			cells[j] = state;
+		}
+	}
+
+
+	/**
+	 * Helper method to parse the RLE header line (the 'x' is already read), e.g. "x = 3, y = 3, rule = B3/S23"
+	 */
+	private void parseHeader() throws IOException {
+
+		byte[] text = new byte[MAX_HEADER];
+		int length = 0;
+		text[length++] = 'x';
+		for(int c = next(); c != '\n' && c != -1; c = next()) {
+			if(length == MAX_HEADER) {
+				throw error("RLE header line is too long");
+			}
+			text[length++] = (byte) c;
+		}
+		String header = new String(text, 0, length, StandardCharsets.US_ASCII).trim();
+
+		// the rule goes last, and may have commas in it (e.g., a ":T100,80" bounded grid)
+		int ruleAt = header.indexOf("rule");
+		String sizes = (ruleAt < 0) ? header : header.substring(0, ruleAt);
+		for(String part : sizes.split(",")) {
+			int equals = part.indexOf('=');
+			if(equals < 0) {
+				continue;
+			}
+			String key = part.substring(0, equals).trim();
+			String value = part.substring(equals + 1).trim();
+			try {
+				if(key.equals("x")) {
+					this.headerWidth = Integer.parseInt(value);
+				} else if(key.equals("y")) {
+					this.headerHeight = Integer.parseInt(value);
+				}
+			} catch(NumberFormatException nfe) {
+				throw error("Pattern size must be a number, got \"" + value + "\"");
+			}
+		}
+
+		if(ruleAt >= 0) {
+			String notation = header.substring(header.indexOf('=', ruleAt) + 1).trim();
+			int topology = notation.indexOf(':');
+			if(topology >= 0) {
+				notation = notation.substring(0, topology);
+			}
+			this.rule = LifeRule.parse(notation);
+		}
+		this.line++;
+	}
+
+
+	/**
+	 * Helper method to skip the rest of a line
+	 */
+	private void skipLine() throws IOException {
+		for(int c = next(); c != '\n' && c != -1; c = next()) {
+		}
+		this.line++;
+	}
+
+
+	/**
+	 * Helper method to read the next byte, or -1 at the end of the pattern (lines are counted by the
+	 * callers, which all look for '\n' anyway)
+	 */
+	private int next() throws IOException {
+
+		if(pos < limit) {
+			return bytes[pos++] & 0xFF;
+		}
+		return refill();
+	}
+
+
+	/**
+	 * Helper method to read more of the channel into the buffer, then return the first byte (or -1 at the end)
+	 */
+	private int refill() throws IOException {
+
+		buffer.clear();
+		int read;
+		do {
+			read = channel.read(buffer);
+		} while(read == 0);
+		if(read < 0) {
+			this.pos = 0;
+			this.limit = 0;
+			return -1;
+		}
+		this.pos = 1;
+		this.limit = read;
+		return bytes[0] & 0xFF;
+	}
+
+
+	/**
+	 * Helper method to look at the next byte without reading it
+	 */
+	private int peek() throws IOException {
+		int c = next();
+		unread(c);
+		return c;
+	}
+
+
+	/**
+	 * Helper method to put back the byte just read, so it's read again next
+	 */
+	private void unread(int c) {
+		if(c != -1) {
+			this.pos--;
+		}
+	}
+
+
+	/**
+	 * Helper method to make an exception for a badly formed pattern, with the line it's on
+	 */
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(message + " (line " + line + ")");
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for whether the pattern is RLE
+	 *
+	 * @return boolean - true for RLE, false for plaintext (known once the header is read)
+	 */
+	public boolean isRLE() {
+		return this.rle;
+	}
+
+
+	/**
+	 * Getter for the rule the pattern gives
+	 *
+	 * @return LifeRule - the RLE header's rule, or null if it doesn't give one (or it's plaintext)
+	 */
+	public LifeRule getRule() {
+		return this.rule;
+	}
+
+
+	/**
+	 * Getter for the pattern's width
+	 *
+	 * @return int - the RLE header's width if there is one, otherwise the widest row read
+	 */
+	public int getWidth() {
+		return (headerWidth >= 0) ? headerWidth : width;
+	}
+
+
+	/**
+	 * Getter for the pattern's height
+	 *
+	 * @return int - the RLE header's height if there is one, otherwise the rows read
+	 */
+	public int getHeight() {
+		return (headerHeight >= 0) ? headerHeight : height;
+	}
+
+
+	/**
+	 * Getter for the number of live (non 0) cells read
+	 *
+	 * @return long - live cells in the pattern, including any off the board
+	 */
+	public long getLiveCells() {
+		return this.liveCells;
+	}
+
+
+	/**
+	 * Getter for the number of cells that landed off the board
+	 *
+	 * @return long - cells skipped (dead or alive)
+	 */
+	public long getClippedCells() {
+		return this.clippedCells;
+	}
+
+}
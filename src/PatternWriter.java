@@ -0,0 +1,179 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: PatternWriter Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class writes a Game of Life board as an RLE pattern (see PatternReader), e.g.
+
+	   		x = 80, y = 120, rule = B3/S23
+	   		bo$2bo$3o!
+
+	   The whole board is written, so it reads back into the same place. Dead cells at the end
+	   of a row and empty rows at the end of the board are left out (they're implied), and
+	   lines are kept to 70 characters. Boards for Generations rules use the multi-state tags
+	   ('.' for dead, 'A' - 'X' then 'pA' - 'yO' for states 1 - 255). Bytes go straight to the
+	   channel through one small buffer, however big the board is.
+
+******/
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+
+public class PatternWriter {
+
+	// size of the write buffer, and the longest line written
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int MAX_LINE = 70;
+	private static final byte[] NEWLINE = { '\n' };
+	private static final byte[] END = { '!', '\n' };
+
+	// where the pattern goes, and a buffer of bytes waiting to be written to it
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+
+	// whether cells are written with the multi-state tags, and characters on the current line
+	private boolean multiState;
+	private int lineLength;
+
+	// a run's tag, built up before it's written (a count of up to 10 digits & a 2 letter tag)
+	private final byte[] token;
+
+
+	/**
+	 * Constructor for the writer
+	 *
+	 * @param channel - WritableByteChannel to write the pattern to (e.g., a FileChannel), not closed by the writer
+	 */
+	public PatternWriter(WritableByteChannel channel) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		this.token = new byte[12];
+	}
+
+
+	// ----------------------------------------- Writing ------------------------------------------- //
+
+
+	/**
+	 * A method to write a board as an RLE pattern
+	 *
+	 * @param board - 2D array of integers, each a state of the rule
+	 * @param rule - LifeRule the board runs, written in the header
+	 * @throws IOException - if writing the channel fails
+	 */
+	public void write(int[][] board, LifeRule rule) throws IOException {
+
+		int numRows = board.length;
+		int numCols = (numRows > 0) ? board[0].length : 0;
+		this.multiState = rule.getNumStates() > 2;
+		this.lineLength = 0;
+
+		String header = "x = " + numCols + ", y = " + numRows + ", rule = " + rule.getNotation() + "\n";
+		put(header.getBytes(StandardCharsets.US_ASCII), header.length());
+
+		// rows to move down before the next run, held back so empty rows at the end are never written
+		int pendingRows = 0;
+		for(int i = 0; i < numRows; i++) {
+
+			int[] row = board[i];
+			int end = row.length;
+			while(end > 0 && row[end - 1] == 0) {
+				end--;
+			}
+
+			if(end > 0 && pendingRows > 0) {
+				putRun(pendingRows, -1);
+				pendingRows = 0;
+			}
+
+			for(int j = 0; j < end; ) {
+				int state = row[j];
+				int start = j;
+				while(j < end && row[j] == state) {
+					j++;
+				}
+				putRun(j - start, state);
+			}
+			pendingRows++;
+		}
+
+		if(lineLength + 1 > MAX_LINE) {
+			put(NEWLINE, 1);
+		}
+		put(END, END.length);
+		flush();
+	}
+
+
+	/**
+	 * Helper method to write a run of cells ("<count><tag>"), or of row ends for a state of -1, starting
+	 * a new line first if it wouldn't fit
+	 */
+	private void putRun(int count, int state) throws IOException {
+
+		// the count's digits, written backwards from the end then moved to the front
+		int length = 0;
+		if(count > 1) {
+			int at = token.length;
+			for(int n = count; n > 0; n /= 10) {
+				token[--at] = (byte) ('0' + (n % 10));
+			}
+			length = token.length - at;
+			System.arraycopy(token, at, token, 0, length);
+		}
+
+		if(state < 0) {
+			token[length++] = '$';
+		} else if(!multiState) {
+			token[length++] = (byte) ((state == 0) ? 'b' : 'o');
+		} else if(state == 0) {
+			token[length++] = '.';
+		} else if(state <= 24) {
+			token[length++] = (byte) ('A' + state - 1);
+		} else {
+			token[length++] = (byte) ('p' + ((state - 25) / 24));
+			token[length++] = (byte) ('A' + ((state - 25) % 24));
+		}
+
+		if(lineLength + length > MAX_LINE) {
+			put(NEWLINE, 1);
+			this.lineLength = 0;
+		}
+		put(token, length);
+		this.lineLength += length;
+	}
+
+
+	/**
+	 * Helper method to add bytes to the buffer, writing it out when it fills up
+	 */
+	private void put(byte[] bytes, int length) throws IOException {
+		for(int k = 0; k < length; k++) {
+			if(!buffer.hasRemaining()) {
+				flush();
+			}
+			buffer.put(bytes[k]);
+		}
+	}
+
+
+	/**
+	 * Helper method to write out everything in the buffer
+	 */
+	private void flush() throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+}
@@ -0,0 +1,101 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: RawFrameWriter Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class writes a recording as raw frames with no header, one after another, for
+	   ffmpeg or anything else that reads raw video from a file or pipe. Frames are either
+	   the palette indices as they are (1 byte per pixel), or looked up in the palette as
+	   RGB (3 bytes per pixel), e.g.:
+
+	   		ffmpeg -f rawvideo -pix_fmt rgb24 -s 400x600 -r 30 -i frames.raw out.mp4
+	   		ffmpeg -f rawvideo -pix_fmt gray -s 400x600 -r 30 -i frames.raw out.mp4   (indexed)
+
+******/
+
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+
+public class RawFrameWriter implements FrameWriter {
+
+	// where frames go, and whether they're written as RGB or as indices
+	private final OutputStream out;
+	private final boolean rgb;
+
+	// frame dimensions, RGB palette, and a buffer for one row of RGB pixels
+	private int width;
+	private int height;
+	private int[] palette;
+	private byte[] rgbRow;
+
+
+	/**
+	 * Constructor for the writer
+	 *
+	 * @param out - OutputStream to write frames to (e.g., a file or a process's input), closed by finish()
+	 * @param rgb - boolean, true to write 3 byte RGB pixels, false for 1 byte palette indices
+	 */
+	public RawFrameWriter(OutputStream out, boolean rgb) {
+		this.out = new BufferedOutputStream(out, 1 << 16);
+		this.rgb = rgb;
+	}
+
+
+	/**
+	 * A method to start the recording (there's no header, this just keeps the dimensions & palette)
+	 *
+	 * @param width - integer for the frame width in pixels
+	 * @param height - integer for the frame height in pixels
+	 * @param palette - integer array of RGB colors, at most 256
+	 */
+	@Override
+	public void begin(int width, int height, int[] palette) throws IOException {
+		this.width = width;
+		this.height = height;
+		this.palette = palette.clone();
+		this.rgbRow = rgb ? new byte[width * 3] : null;
+	}
+
+
+	/**
+	 * A method to write a frame
+	 *
+	 * @param pixels - byte array of width * height palette indices, row by row
+	 */
+	@Override
+	public void writeFrame(byte[] pixels) throws IOException {
+
+		if(!rgb) {
+			out.write(pixels, 0, width * height);
+			return;
+		}
+
+		for(int y = 0; y < height; y++) {
+			int base = y * width;
+			for(int x = 0; x < width; x++) {
+				int color = palette[pixels[base + x] & 0xFF];
+				rgbRow[x * 3] = (byte) (color >>> 16);
+				rgbRow[(x * 3) + 1] = (byte) (color >>> 8);
+				rgbRow[(x * 3) + 2] = (byte) color;
+			}
+			out.write(rgbRow);
+		}
+	}
+
+
+	/**
+	 * A method to end the recording, flushes & closes the output
+	 */
+	@Override
+	public void finish() throws IOException {
+		out.close();
+	}
+
+}
@@ -0,0 +1,323 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: SimpleCycleFinder Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class finds when a simple (1D) CA run starts repeating, so that the state at any
+	   later generation can be answered without simulating up to it. A finite lattice only
+	   has so many states, so every run eventually repeats: it goes through a transient
+	   (the generations before the cycle starts) and then loops with some period.
+
+	   Each generation is packed into words like BitPackedCA (cell i is bit (i % 64) of word
+	   i / 64), hashed to 64 bits, and handed to a CycleDetector. The newest rows are kept in
+	   a ring, bounded by both the detector's capacity and a memory budget, so when a hash
+	   repeats the two rows are compared to rule out a collision, and the whole cycle is on
+	   hand afterwards. Generation N (past the transient) is then the row at
+	   start + ((N - start) % period).
+
+	   The repeat is often spotted after the cycle really starts (the detector forgets old
+	   hashes, and starts over after a collision), so once the period is known the rows in
+	   the ring are walked back to the earliest generation that matches the one a period
+	   later. If that reaches the oldest row kept, the real start is further back than the
+	   ring remembers: getCycleStart() is then only the generation the cycle was entered by,
+	   and the transient isn't known (see getTransientLength(), the run would have to be
+	   replayed to find it).
+
+	   Cycles longer than the ring can't be kept, so they aren't reported (the run just keeps
+	   going). Generations must be observed in order starting from any generation, and
+	   observing stops once a cycle is found (the ring is left holding it).
+
+******/
+
+
+import java.util.Arrays;
+
+
+public class SimpleCycleFinder {
+
+	// default memory budget for the ring of rows
+	public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+	// number of cells, and the number of 64 bit words needed to hold them
+	private final int width;
+	private final int numWords;
+
+	// the newest rows, generation g is at rows[g % ringSize] (allocated as they're first needed)
+	private final long[][] rows;
+	private final int ringSize;
+
+	// spots repeated hashes, and the first & newest generations observed (-1 for none)
+	private final CycleDetector detector;
+	private long firstGeneration;
+	private long newestGeneration;
+
+	// the earliest generation known to be in the cycle (-1 until one is found), and whether it's where the cycle starts
+	private long cycleStart;
+	private boolean startKnown;
+
+	// a buffer to pack int[] states into before observing them
+	private long[] packed;
+
+
+	/**
+	 * Constructor for the finder with the default capacity & memory budget
+	 *
+	 * @param width - integer for the number of cells in the lattice
+	 */
+	public SimpleCycleFinder(int width) {
+		this(width, CycleDetector.DEFAULT_CAPACITY, DEFAULT_MAX_BYTES);
+	}
+
+
+	/**
+	 * Constructor for the finder
+	 *
+	 * @param width - integer for the number of cells in the lattice
+	 * @param capacity - integer, most generations remembered by the detector (which bounds the longest period)
+	 * @param maxBytes - long, most memory used by the ring of stored rows (at least 2 rows are always kept)
+	 */
+	public SimpleCycleFinder(int width, int capacity, long maxBytes) {
+
+		if(width < 1) {
+			throw new IllegalArgumentException("Width must be at least 1, got " + width);
+		}
+		if(maxBytes < 0) {
+			throw new IllegalArgumentException("Memory budget can't be negative, got " + maxBytes);
+		}
+
+		this.width = width;
+		this.numWords = (width + 63) >>> 6;
+		this.detector = new CycleDetector(capacity);
+
+		long budgetRows = maxBytes / (numWords * 8L);
+		this.ringSize = (int) Math.max(2, Math.min(detector.getCapacity(), budgetRows));
+		this.rows = new long[ringSize][];
+		clear();
+	}
+
+
+	// ------------------------------------- Detection Methods ------------------------------------- //
+
+
+	/**
+	 * A method to observe a generation's packed row
+	 *
+	 * @param generation - long, the generation (the one after the last one observed, or any to start)
+	 * @param words - the packed row, cell i is bit (i % 64) of word i / 64, unused bits 0 (copied)
+	 * @return boolean - true if this generation is where the cycle was found (only once, see isCycleFound())
+	 */
+	public boolean observe(long generation, long[] words) {
+
+		if(detector.isCycleFound()) {
+			return false;
+		}
+		if(newestGeneration >= 0 && generation != newestGeneration + 1) {
+			throw new IllegalArgumentException("Expected generation " + (newestGeneration + 1) + ", got " + generation);
+		}
+
+		int slot = (int) (generation % ringSize);
+		if(rows[slot] == null) {
+			rows[slot] = new long[numWords];
+		}
+		System.arraycopy(words, 0, rows[slot], 0, numWords);
+		if(newestGeneration < 0) {
+			this.firstGeneration = generation;
+		}
+		this.newestGeneration = generation;
+
+		if(!detector.observe(generation, hash(words))) {
+			return false;
+		}
+
+		// make sure it's really the same row, and that the whole cycle is still in the ring
+		long start = detector.getCycleStart();
+		if(generation - start < ringSize && Arrays.equals(rows[(int) (start % ringSize)], rows[slot])) {
+			findCycleStart(start, generation - start);
+			return true;
+		}
+		detector.clear();
+		return false;
+	}
+
+
+	/**
+	 * Helper method to walk a cycle's start back through the ring, while each row is the same as the
+	 * row a period later
+	 */
+	private void findCycleStart(long start, long period) {
+
+		long oldest = Math.max(firstGeneration, newestGeneration - ringSize + 1);
+		while(start > oldest && Arrays.equals(rows[(int) ((start - 1) % ringSize)], rows[(int) ((start - 1 + period) % ringSize)])) {
+			start--;
+		}
+
+		// it's the real start if the row before it differs, or there's no row before it
+		this.cycleStart = start;
+		this.startKnown = (start > oldest) || (start == firstGeneration);
+	}
+
+
+	/**
+	 * A method to observe a generation's state
+	 *
+	 * @param generation - long, the generation (the one after the last one observed, or any to start)
+	 * @param state - integer array of 0s and 1s, must be the same length as the width
+	 * @return boolean - true if this generation is where the cycle was found (only once, see isCycleFound())
+	 */
+	public boolean observe(long generation, int[] state) {
+
+		if(packed == null) {
+			this.packed = new long[numWords];
+		}
+		Arrays.fill(packed, 0L);
+		for(int i = 0; i < width; i++) {
+			if(state[i] == 1) {
+				packed[i >>> 6] |= 1L << (i & 63);
+			}
+		}
+		return observe(generation, packed);
+	}
+
+
+	/**
+	 * A method to forget everything observed, including any cycle found
+	 */
+	public void clear() {
+		detector.clear();
+		this.firstGeneration = -1;
+		this.newestGeneration = -1;
+		this.cycleStart = -1;
+		this.startKnown = false;
+	}
+
+
+	/**
+	 * Helper method to hash a packed row, a splitmix64 style mix of each word into the last
+	 */
+	private static long hash(long[] words) {
+		long h = 0x9E3779B97F4A7C15L;
+		for(long word : words) {
+			h = (h ^ word) * 0xBF58476D1CE4E5B9L;
+			h ^= h >>> 31;
+		}
+		h *= 0x94D049BB133111EBL;
+		return h ^ (h >>> 29);
+	}
+
+
+	// --------------------------------------- Lookup Methods -------------------------------------- //
+
+
+	/**
+	 * A method to get the packed row of a generation, either one still in the ring or any after the
+	 * transient once a cycle is found
+	 *
+	 * @param generation - long, the generation to look up
+	 * @return long[] - the packed row, not a copy
+	 */
+	public long[] getRow(long generation) {
+
+		long stored = generation;
+		if(detector.isCycleFound() && generation > newestGeneration) {
+			stored = cycleStart + ((generation - cycleStart) % detector.getPeriod());
+		}
+		if(stored > newestGeneration || stored < 0 || newestGeneration - stored >= ringSize) {
+			throw new IllegalArgumentException("Generation " + generation + " isn't known, it's past the newest "
+					+ "observed & no cycle was found, or too old to be kept");
+		}
+		return rows[(int) (stored % ringSize)];
+	}
+
+
+	/**
+	 * A method to write the state of a generation into a provided int[], see getRow()
+	 *
+	 * @param generation - long, the generation to look up
+	 * @param state - integer array to write 0s and 1s into, must be the same length as the width
+	 */
+	public void writeState(long generation, int[] state) {
+		long[] row = getRow(generation);
+		for(int i = 0; i < width; i++) {
+			state[i] = (int) ((row[i >>> 6] >>> (i & 63)) & 1L);
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for whether a cycle was found
+	 *
+	 * @return boolean - true if a generation repeated
+	 */
+	public boolean isCycleFound() {
+		return detector.isCycleFound();
+	}
+
+
+	/**
+	 * Getter for the cycle's period
+	 *
+	 * @return long - generations per repeat (1 for a fixed point), or 0 if no cycle was found
+	 */
+	public long getPeriod() {
+		return detector.getPeriod();
+	}
+
+
+	/**
+	 * Getter for the generation the cycle was entered by, the earliest one the rows kept show is in it
+	 *
+	 * @return long - a generation in the cycle, or -1 if no cycle was found
+	 */
+	public long getCycleStart() {
+		return this.cycleStart;
+	}
+
+
+	/**
+	 * Getter for the transient length, the generation the cycle starts at (for runs observed from 0)
+	 *
+	 * @return long - the first generation that repeats, or -1 if no cycle was found or it starts before
+	 * 				  the oldest row kept (it's at most getCycleStart() then)
+	 */
+	public long getTransientLength() {
+		return startKnown ? cycleStart : -1;
+	}
+
+
+	/**
+	 * Getter for the newest generation observed
+	 *
+	 * @return long - the newest generation, or -1 if none
+	 */
+	public long getNewestGeneration() {
+		return this.newestGeneration;
+	}
+
+
+	/**
+	 * Getter for the number of rows the ring holds
+	 *
+	 * @return int - most recent generations kept, which bounds the longest period found
+	 */
+	public int getRingSize() {
+		return this.ringSize;
+	}
+
+
+	/**
+	 * Getter for the width
+	 *
+	 * @return int - number of cells in the lattice
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+}
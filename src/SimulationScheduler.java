@@ -0,0 +1,143 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: SimulationScheduler Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class runs the animations on their own thread, so the controller doesn't have to
+	   poll for button presses or sleep between frames. It wraps a single threaded
+	   ScheduledExecutorService: start() repeats a step at a fixed rate until it's stopped
+	   or replaced, and execute() runs a one off action (e.g., clearing the display) on the
+	   same thread. With one thread, actions and steps never overlap and run in the order
+	   they were submitted, so the model & view are only touched from that thread. When no
+	   animation is running the thread is parked, using no CPU.
+
+	   Anything an action or step throws is handed to an error handler (on the scheduler's
+	   thread), rather than being dropped by the executor. A step that throws is stopped
+	   first, so a broken frame doesn't fail over and over.
+
+******/
+
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+
+public class SimulationScheduler {
+
+	// the one thread everything runs on, and the repeating step & its task (null when nothing is running)
+	private final ScheduledExecutorService executor;
+	private Runnable step;
+	private ScheduledFuture<?> task;
+
+	// given anything an action or step throws
+	private final Consumer<RuntimeException> errorHandler;
+
+
+	/**
+	 * Constructor for the scheduler, the thread is a daemon so it won't keep the program running
+	 * 
+	 * @param name - String, a name for the thread
+	 * @param errorHandler - Consumer given anything an action or step throws, called on the scheduler's thread
+	 */
+	public SimulationScheduler(String name, Consumer<RuntimeException> errorHandler) {
+		this.errorHandler = errorHandler;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+
+	// ------------------------------------- Scheduling Methods ------------------------------------- //
+
+
+	/**
+	 * A method to start repeating a step, replacing any step already running. The first step runs
+	 * after one period, and after that steps start a period apart however long each one takes (so
+	 * frame timing doesn't drift). A step that runs long delays the next one, they never overlap.
+	 * 
+	 * @param step - Runnable, the step to repeat
+	 * @param periodMillis - long, milliseconds from the start of one step to the next
+	 */
+	public synchronized void start(Runnable step, long periodMillis) {
+		stop();
+		this.step = step;
+		this.task = executor.scheduleAtFixedRate(guard(step), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+	}
+
+
+	/**
+	 * A method to stop the repeating step, a step that's already started is allowed to finish
+	 */
+	public synchronized void stop() {
+		if(task != null) {
+			task.cancel(false);
+			this.step = null;
+			this.task = null;
+		}
+	}
+
+
+	/**
+	 * A method to run an action once on the scheduler's thread, after anything already submitted
+	 * 
+	 * @param action - Runnable, the action to run
+	 */
+	public void execute(Runnable action) {
+		executor.execute(guard(action));
+	}
+
+
+	/**
+	 * A method to stop the repeating step and the thread, nothing can be scheduled afterwards
+	 */
+	public synchronized void shutdown() {
+		stop();
+		executor.shutdownNow();
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for whether a step is repeating
+	 * 
+	 * @return boolean - true if a step was started and hasn't been stopped
+	 */
+	public synchronized boolean isRunning() {
+		return this.task != null;
+	}
+
+
+	// -------------------------------------- Helper Methods --------------------------------------- //
+
+
+	/**
+	 * Helper method to hand anything an action throws to the error handler, rather than the executor
+	 * quietly dropping it, stopping the action first if it's the repeating step
+	 */
+	private Runnable guard(Runnable action) {
+		return () -> {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				synchronized(this) {
+					if(step == action) {
+						stop();
+					}
+				}
+				errorHandler.accept(e);
+			}
+		};
+	}
+
+}
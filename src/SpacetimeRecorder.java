@@ -0,0 +1,380 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: SpacetimeRecorder Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class records the full spacetime of a simple (1D) CA run, every generation one
+	   after another, in a memory-mapped file. Rows are bit packed like BitPackedCA (cell i
+	   is bit (i % 64) of word i / 64, words little endian, unused bits 0), so a million cell
+	   lattice takes 125 KB a generation, and any generation or range of cells can be read
+	   back at random.
+
+	   The file is mapped in segments of whole rows (about 64 MB each), with a new segment
+	   mapped as the recording grows into it, so the file never needs to be mapped (or fit
+	   in memory) all at once. Rows go straight into the mapped pages and are read straight
+	   out of them, so nothing is copied through the Java heap: cells are packed as they're
+	   written, a range of cells is unpacked as it's read, and getRow() hands back a view of
+	   the mapped row itself. The OS pages it all in and out as needed.
+
+	   The file starts with a small header (see HEADER_BYTES) giving the width and number of
+	   generations, which is kept up to date as rows are added, so a recording can be opened
+	   again later (see open()). The file grows a segment at a time, so while recording it can
+	   be longer than the generations recorded (the header says where they end); it's trimmed
+	   back to them when the recording is closed.
+
+******/
+
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+
+public class SpacetimeRecorder implements AutoCloseable {
+
+	// the header: a magic number, the width, the words per row, and the number of generations
+	private static final long MAGIC = 0x3130454D49545343L; // "CSTIME01", little endian
+	private static final int HEADER_BYTES = 64;
+	private static final int WIDTH_AT = 8;
+	private static final int WORDS_AT = 12;
+	private static final int GENERATIONS_AT = 16;
+
+	// target size of each mapped segment
+	private static final long SEGMENT_BYTES = 64L << 20;
+
+	// the file, and the header mapped on its own
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+
+	// number of cells, the words in each row, and rows per segment
+	private final int width;
+	private final int numWords;
+	private final int rowsPerSegment;
+
+	// segments mapped so far (segment k holds rows k * rowsPerSegment on), and each viewed as longs
+	private final List<MappedByteBuffer> mappings;
+	private final List<LongBuffer> segments;
+
+	// number of generations recorded
+	private long generations;
+
+
+	/**
+	 * Constructor for a new recording, replacing the file if it's there
+	 *
+	 * @param file - Path of the file to record to
+	 * @param width - integer for the number of cells in the lattice
+	 * @throws IOException - if the file can't be created or mapped
+	 */
+	public SpacetimeRecorder(Path file, int width) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING), width, true);
+	}
+
+
+	/**
+	 * Helper constructor, maps the header of a new recording (or an existing one, see open())
+	 */
+	private SpacetimeRecorder(FileChannel channel, int width, boolean create) throws IOException {
+
+		this.channel = channel;
+		try {
+			this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+
+			if(create) {
+				if(width < 1) {
+					throw new IllegalArgumentException("Width must be at least 1, got " + width);
+				}
+				header.putLong(0, MAGIC);
+				header.putInt(WIDTH_AT, width);
+				header.putInt(WORDS_AT, (width + 63) >>> 6);
+				header.putLong(GENERATIONS_AT, 0);
+			} else if(header.getLong(0) != MAGIC) {
+				throw new IOException("Not a spacetime recording");
+			}
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+
+		this.width = header.getInt(WIDTH_AT);
+		this.numWords = header.getInt(WORDS_AT);
+		this.generations = header.getLong(GENERATIONS_AT);
+		this.rowsPerSegment = (int) Math.max(1, Math.min(Integer.MAX_VALUE / 8 / numWords, SEGMENT_BYTES / (numWords * 8L)));
+		this.mappings = new ArrayList<MappedByteBuffer>();
+		this.segments = new ArrayList<LongBuffer>();
+	}
+
+
+	/**
+	 * A method to open an existing recording, to read it or add more generations to it
+	 *
+	 * @param file - Path of the recording
+	 * @return SpacetimeRecorder - the recording, with its generations so far
+	 * @throws IOException - if the file can't be opened or mapped, or isn't a recording
+	 */
+	public static SpacetimeRecorder open(Path file) throws IOException {
+		return new SpacetimeRecorder(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE), 0, false);
+	}
+
+
+	// ------------------------------------ Recording Methods -------------------------------------- //
+
+
+	/**
+	 * A method to add the next generation, packing its cells straight into the file
+	 *
+	 * @param state - integer array of 0s and 1s, the width long
+	 * @throws IOException - if the file can't be grown
+	 */
+	public void append(int[] state) throws IOException {
+
+		if(state.length != width) {
+			throw new IllegalArgumentException("State must have " + width + " cells, got " + state.length);
+		}
+
+		LongBuffer segment = segmentFor(generations);
+		int base = rowIndex(generations);
+		for(int w = 0; w < numWords; w++) {
+			long word = 0L;
+			int first = w << 6;
+			int bits = Math.min(64, width - first);
+			for(int b = 0; b < bits; b++) {
+				word |= (long) (state[first + b] & 1) << b;
+			}
+			segment.put(base + w, word);
+		}
+		recorded();
+	}
+
+
+	/**
+	 * A method to add the next generation from packed words (e.g., BitPackedCA.getWords())
+	 *
+	 * @param words - long array, cell i is bit (i % 64) of word i / 64, unused bits 0
+	 * @throws IOException - if the file can't be grown
+	 */
+	public void append(long[] words) throws IOException {
+
+		if(words.length < numWords) {
+			throw new IllegalArgumentException("Rows need " + numWords + " words, got " + words.length);
+		}
+
+		LongBuffer segment = segmentFor(generations);
+		segment.position(rowIndex(generations));
+		segment.put(words, 0, numWords);
+		recorded();
+	}
+
+
+	/**
+	 * Helper method to count the generation just added, in the header as well
+	 */
+	private void recorded() {
+		this.generations++;
+		header.putLong(GENERATIONS_AT, generations);
+	}
+
+
+	/**
+	 * A method to write everything recorded out to the file (the OS does this on its own eventually)
+	 */
+	public void force() {
+		for(MappedByteBuffer mapped : mappings) {
+			mapped.force();
+		}
+		header.force();
+	}
+
+
+	/**
+	 * A method to finish recording, writes everything out, trims the file to the generations recorded
+	 * & closes it (the mapped segments are let go of once they're garbage collected)
+	 *
+	 * @throws IOException - if trimming or closing the file fails
+	 */
+	@Override
+	public void close() throws IOException {
+		force();
+		mappings.clear();
+		segments.clear();
+		try {
+			channel.truncate(HEADER_BYTES + (generations * numWords * 8L));
+		} finally {
+			channel.close();
+		}
+	}
+
+
+	// ------------------------------------- Reading Methods --------------------------------------- //
+
+
+	/**
+	 * A method to read one cell
+	 *
+	 * @param generation - long, the generation (0 is the first one recorded)
+	 * @param cell - integer, the cell's index
+	 * @return int - the cell's state, 0 or 1
+	 * @throws IOException - if the segment holding it can't be mapped
+	 */
+	public int getCell(long generation, int cell) throws IOException {
+		checkRange(generation, cell, cell + 1);
+		long word = segmentFor(generation).get(rowIndex(generation) + (cell >>> 6));
+		return (int) ((word >>> (cell & 63)) & 1L);
+	}
+
+
+	/**
+	 * A method to read a range of cells, unpacked straight from the file
+	 *
+	 * @param generation - long, the generation (0 is the first one recorded)
+	 * @param fromCell - integer, the first cell to read
+	 * @param toCell - integer, one past the last cell to read
+	 * @param cells - integer array to write the states into (0s and 1s)
+	 * @param offset - integer, where in cells to write the first one
+	 * @throws IOException - if the segment holding it can't be mapped
+	 */
+	public void readCells(long generation, int fromCell, int toCell, int[] cells, int offset) throws IOException {
+
+		checkRange(generation, fromCell, toCell);
+		LongBuffer segment = segmentFor(generation);
+		int base = rowIndex(generation);
+
+		int i = fromCell;
+		while(i < toCell) {
+			long word = segment.get(base + (i >>> 6)) >>> (i & 63);
+			int end = Math.min(toCell, (i | 63) + 1);
+			for(; i < end; i++) {
+				cells[offset++] = (int) (word & 1L);
+				word >>>= 1;
+			}
+		}
+	}
+
+
+	/**
+	 * A method to count the live cells in a range, straight from the file
+	 *
+	 * @param generation - long, the generation (0 is the first one recorded)
+	 * @param fromCell - integer, the first cell to count
+	 * @param toCell - integer, one past the last cell to count
+	 * @return long - the number of live cells
+	 * @throws IOException - if the segment holding it can't be mapped
+	 */
+	public long countLive(long generation, int fromCell, int toCell) throws IOException {
+
+		checkRange(generation, fromCell, toCell);
+		if(fromCell == toCell) {
+			return 0;
+		}
+
+		LongBuffer segment = segmentFor(generation);
+		int base = rowIndex(generation);
+		int firstWord = fromCell >>> 6;
+		int lastWord = (toCell - 1) >>> 6;
+
+		long count = 0;
+		for(int w = firstWord; w <= lastWord; w++) {
+			long word = segment.get(base + w);
+			if(w == firstWord) {
+				word &= -1L << (fromCell & 63);
+			}
+			if(w == lastWord && (toCell & 63) != 0) {
+				word &= -1L >>> (64 - (toCell & 63));
+			}
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+
+	/**
+	 * A method to get a generation's packed row, as a read only view of the file (not a copy)
+	 *
+	 * @param generation - long, the generation (0 is the first one recorded)
+	 * @return LongBuffer - the row's words, cell i is bit (i % 64) of word i / 64
+	 * @throws IOException - if the segment holding it can't be mapped
+	 */
+	public LongBuffer getRow(long generation) throws IOException {
+		checkRange(generation, 0, width);
+		int base = rowIndex(generation);
+		return segmentFor(generation).duplicate().position(base).limit(base + numWords).slice().asReadOnlyBuffer();
+	}
+
+
+	// -------------------------------------- Helper Methods --------------------------------------- //
+
+
+	/**
+	 * Helper method to get the segment holding a generation's row, mapping it (and any before it) if it isn't yet
+	 */
+	private LongBuffer segmentFor(long generation) throws IOException {
+
+		long index = generation / rowsPerSegment;
+		while(segments.size() <= index) {
+			long start = HEADER_BYTES + (segments.size() * (long) rowsPerSegment * numWords * 8L);
+			long length = (long) rowsPerSegment * numWords * 8L;
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, start, length);
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+			segments.add(mapped.asLongBuffer());
+			mappings.add(mapped);
+		}
+		return segments.get((int) index);
+	}
+
+
+	/**
+	 * Helper method to get the index of a generation's first word within its segment
+	 */
+	private int rowIndex(long generation) {
+		return (int) (generation % rowsPerSegment) * numWords;
+	}
+
+
+	/**
+	 * Helper method to check a generation & range of cells are in the recording
+	 */
+	private void checkRange(long generation, int fromCell, int toCell) {
+		if(generation < 0 || generation >= generations) {
+			throw new IllegalArgumentException("Generation must be at least 0 & below " + generations + ", got " + generation);
+		}
+		if(fromCell < 0 || toCell > width || fromCell > toCell) {
+			throw new IllegalArgumentException("Cells must be in 0 - " + width + ", got " + fromCell + " - " + toCell);
+		}
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of generations recorded
+	 *
+	 * @return long - generations, numbered from 0
+	 */
+	public long getGenerations() {
+		return this.generations;
+	}
+
+
+	/**
+	 * Getter for the width
+	 *
+	 * @return int - number of cells in each generation
+	 */
+	public int getWidth() {
+		return this.width;
+	}
+
+}
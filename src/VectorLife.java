@@ -0,0 +1,188 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: VectorLife Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class is a SIMD Game of Life engine built on the Java Vector API (the incubating
+	   jdk.incubator.vector module). It keeps the model's layout, one int per cell, but works
+	   out a whole vector of cells per operation: the 8 neighbor sums are added lane by lane
+	   and the rule is looked up with a per lane shift of its packed table, then any cells left over at
+	   the end of a row are done one at a time. Like CAModel.recalcGameState(), the border
+	   rows and columns never change.
+
+	   Note: the module has to be added at compile & run time (--add-modules jdk.incubator.vector).
+	   Use CAModel.setVectorEngine(), which falls back to the scalar int[][] path if it isn't.
+
+******/
+
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+public class VectorLife implements LifeEngine {
+
+	// widest vector shape the CPU supports (e.g., 8 ints with AVX2, 16 with AVX-512)
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	// board dimensions, the current board, and a preallocated board the next generation is written into
+	private int numRows;
+	private int numCols;
+	private int[][] cells;
+	private int[][] next;
+
+	// the rule's packed table, bit (state * 9) + neighbors is the new state
+	private int ruleMask;
+
+
+	/**
+	 * No argument constructor, the board is sized when one is loaded
+	 */
+	public VectorLife() {
+		this.numRows = 0;
+		this.numCols = 0;
+		this.ruleMask = LifeRule.CLASSIC.getMask();
+	}
+
+
+	// ---------------------------------- Loading & Saving Boards ---------------------------------- //
+
+
+	/**
+	 * A method to load a board (copied)
+	 *
+	 * @param board - a 2D array of integers (0s and 1s)
+	 */
+	@Override
+	public void load(int[][] board) {
+
+		int rows = board.length;
+		int cols = board[0].length;
+
+		if(rows != numRows || cols != numCols) {
+			this.numRows = rows;
+			this.numCols = cols;
+			this.cells = new int[rows][cols];
+			this.next = new int[rows][cols];
+		}
+
+		for(int i = 0; i < rows; i++) {
+			System.arraycopy(board[i], 0, cells[i], 0, cols);
+		}
+	}
+
+
+	/**
+	 * A method to write the current board into the provided board
+	 *
+	 * @param board - a 2D array of integers with the same dimensions as the loaded board
+	 */
+	@Override
+	public void writeTo(int[][] board) {
+		for(int i = 0; i < numRows; i++) {
+			System.arraycopy(cells[i], 0, board[i], 0, numCols);
+		}
+	}
+
+
+	// ------------------------------------- Stepping Methods ------------------------------------- //
+
+
+	/**
+	 * This method advances the board by one generation
+	 */
+	@Override
+	public void step() {
+
+		int[][] src = cells;
+		int[][] dst = next;
+		int lastRow = numRows - 1;
+		int lastCol = numCols - 1;
+
+		// border cells never change, so copy them over as they are
+		System.arraycopy(src[0], 0, dst[0], 0, numCols);
+		System.arraycopy(src[lastRow], 0, dst[lastRow], 0, numCols);
+
+		int mask = ruleMask;
+		IntVector one = IntVector.broadcast(SPECIES, 1);
+		IntVector rule = IntVector.broadcast(SPECIES, mask);
+		int lanes = SPECIES.length();
+
+		for(int i = 1; i < lastRow; i++) {
+
+			int[] above = src[i - 1];
+			int[] row = src[i];
+			int[] below = src[i + 1];
+			int[] out = dst[i];
+
+			out[0] = row[0];
+			out[lastCol] = row[lastCol];
+
+			// whole vectors of cells, as long as the right neighbors (j + lanes) are still on the board
+			int j = 1;
+			for(; j + lanes <= lastCol; j += lanes) {
+
+				IntVector neighbors = IntVector.fromArray(SPECIES, above, j - 1)
+						.add(IntVector.fromArray(SPECIES, above, j))
+						.add(IntVector.fromArray(SPECIES, above, j + 1))
+						.add(IntVector.fromArray(SPECIES, row, j - 1))
+						.add(IntVector.fromArray(SPECIES, row, j + 1))
+						.add(IntVector.fromArray(SPECIES, below, j - 1))
+						.add(IntVector.fromArray(SPECIES, below, j))
+						.add(IntVector.fromArray(SPECIES, below, j + 1));
+				IntVector center = IntVector.fromArray(SPECIES, row, j);
+
+				// each lane shifts the packed rule down by its own (state * 9) + neighbors, the low bit is the new state
+				IntVector index = center.lanewise(VectorOperators.LSHL, 3).add(center).add(neighbors);
+				rule.lanewise(VectorOperators.LSHR, index).and(one).intoArray(out, j);
+			}
+
+			// any cells left at the end of the row
+			for(; j < lastCol; j++) {
+				int neighbors = above[j - 1] + above[j] + above[j + 1]
+						+ row[j - 1] + row[j + 1]
+						+ below[j - 1] + below[j] + below[j + 1];
+				out[j] = (mask >>> ((row[j] * 9) + neighbors)) & 1;
+			}
+		}
+
+		// swap boards so the new generation becomes current
+		this.cells = dst;
+		this.next = src;
+
+	}
+
+
+	/**
+	 * A method to set the rule, takes effect on the next step
+	 *
+	 * @param rule - the compiled LifeRule to step with, must have 2 states
+	 */
+	@Override
+	public void setRule(LifeRule rule) {
+
+		if(rule.getNumStates() != 2) {
+			throw new IllegalArgumentException("VectorLife only runs 2 state rules, got " + rule);
+		}
+		this.ruleMask = rule.getMask();
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of cells worked out per vector operation on this CPU
+	 *
+	 * @return int - number of int lanes in the preferred vector shape
+	 */
+	public static int getLanes() {
+		return SPECIES.length();
+	}
+
+}
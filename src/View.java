@@ -29,6 +29,8 @@ public interface View {
 	public void initializeGOLPanels(); // create panels for GOL display
 	public void setGOLPanelColor(int i, int j, Color c); // set a GOL panel to a specific color 
 	public void displayGOLBoard(); // display the GOL panels
+
+	public void showStatus(String message); // show a message (e.g., an error) in the status line, null clears it
 	
 }
 
@@ -0,0 +1,39 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: ViewLauncher Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class starts the program with its view: it initializes the model and view, which
+	   are then passed to the controller to run the program. It's separate from Driver so that
+	   headless runs (see BatchRunner) never load it, or any Swing or AWT classes with it.
+
+******/
+
+
+public class ViewLauncher {
+
+	/**
+	 * A method to open the view & hand the program over to the controller
+	 */
+	public static void launch() {
+
+		// create model and view, then pass these over to the controller
+		CAModel model = new CAModel();
+
+		// step the GOL with the active cell engine, so only changed cells are evaluated & redrawn
+		model.setGOLEngine(new ActiveCellLife());
+
+		// draw into a single image rather than a JPanel per cell
+		CAView view = new CanvasView();
+		CAController controller = new CAController(model, view);
+
+		// call this method to await user choice from the controller
+		controller.choiceMenu();
+
+	}
+
+}
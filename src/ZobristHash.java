@@ -0,0 +1,200 @@
+/******
+
+Name: Tristan Jordan
+
+CA Animator: ZobristHash Class
+
+Date: 10/18/2026
+
+Notes / Class Description:
+	   This class hashes GOL boards (or simple CA states) Zobrist style: every cell has a
+	   random 64 bit key for each non-zero state, and a board's hash is the XOR of the keys
+	   of its cells. Since XOR undoes itself, when a cell changes state the hash is updated
+	   by XORing out its old key and XORing in its new one, so a step only costs as much as
+	   the number of cells that flipped, not the size of the board. Dead cells (state 0)
+	   have no key, so an empty board hashes to 0.
+
+	   Keys for state 1 are stored, keys for decaying states (Generations rules) are mixed
+	   from them when needed.
+
+******/
+
+
+import java.util.SplittableRandom;
+
+
+public class ZobristHash {
+
+	// fixed seed, so a board always has the same hash
+	private static final long DEFAULT_SEED = 0x5EED_CAFE_F00DL;
+
+	// each cell's key for state 1, stored as (row * number of columns) + col
+	private final long[] keys;
+
+
+	/**
+	 * Constructor for the hash, with the default seed
+	 *
+	 * @param numCells - integer, number of cells on the board (rows * cols)
+	 */
+	public ZobristHash(int numCells) {
+		this(numCells, DEFAULT_SEED);
+	}
+
+
+	/**
+	 * Constructor for the hash
+	 *
+	 * @param numCells - integer, number of cells on the board (rows * cols)
+	 * @param seed - long, seed for the random keys
+	 */
+	public ZobristHash(int numCells, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		this.keys = new long[numCells];
+		for(int i = 0; i < numCells; i++) {
+			keys[i] = random.nextLong();
+		}
+	}
+
+
+	// -------------------------------------- Hashing Methods -------------------------------------- //
+
+
+	/**
+	 * A method to get a cell's key for a state
+	 *
+	 * @param cell - integer, the cell, (row * number of columns) + col
+	 * @param state - integer, the state
+	 * @return long - the key, 0 for state 0
+	 */
+	public long key(int cell, int state) {
+		if(state == 0) {
+			return 0;
+		}
+		if(state == 1) {
+			return keys[cell];
+		}
+		return mix(keys[cell] + (state * 0x9E3779B97F4A7C15L));
+	}
+
+
+	/**
+	 * A method to hash a whole board
+	 *
+	 * @param board - 2D array of integers, rows * cols must be the number of cells
+	 * @return long - the hash
+	 */
+	public long hash(int[][] board) {
+		long hash = 0;
+		int cell = 0;
+		for(int[] row : board) {
+			for(int state : row) {
+				if(state != 0) {
+					hash ^= key(cell, state);
+				}
+				cell++;
+			}
+		}
+		return hash;
+	}
+
+
+	/**
+	 * A method to hash a whole simple CA state
+	 *
+	 * @param state - integer array, its length must be the number of cells
+	 * @return long - the hash
+	 */
+	public long hash(int[] state) {
+		long hash = 0;
+		for(int cell = 0; cell < state.length; cell++) {
+			if(state[cell] != 0) {
+				hash ^= key(cell, state[cell]);
+			}
+		}
+		return hash;
+	}
+
+
+	/**
+	 * A method to update a hash for one cell changing state
+	 *
+	 * @param hash - long, the hash before
+	 * @param cell - integer, the cell, (row * number of columns) + col
+	 * @param oldState - integer, the cell's state before
+	 * @param newState - integer, the cell's state after
+	 * @return long - the hash after
+	 */
+	public long update(long hash, int cell, int oldState, int newState) {
+		return hash ^ key(cell, oldState) ^ key(cell, newState);
+	}
+
+
+	/**
+	 * A method to update a hash from one board to the next, given the cells that changed
+	 *
+	 * @param hash - long, the old board's hash
+	 * @param oldBoard - 2D array of integers, the board before
+	 * @param newBoard - 2D array of integers, the board after
+	 * @param changedCells - integer array of the cells that changed, (row * number of columns) + col
+	 * @param changedCount - integer for how many entries of changedCells are valid
+	 * @return long - the new board's hash
+	 */
+	public long update(long hash, int[][] oldBoard, int[][] newBoard, int[] changedCells, int changedCount) {
+		int cols = oldBoard[0].length;
+		for(int k = 0; k < changedCount; k++) {
+			int cell = changedCells[k];
+			int i = cell / cols;
+			int j = cell % cols;
+			hash = update(hash, cell, oldBoard[i][j], newBoard[i][j]);
+		}
+		return hash;
+	}
+
+
+	/**
+	 * A method to update a hash from one board to the next, finding the cells that changed by comparing them
+	 *
+	 * @param hash - long, the old board's hash
+	 * @param oldBoard - 2D array of integers, the board before
+	 * @param newBoard - 2D array of integers, the board after (same dimensions)
+	 * @return long - the new board's hash
+	 */
+	public long update(long hash, int[][] oldBoard, int[][] newBoard) {
+		int cols = oldBoard[0].length;
+		for(int i = 0; i < oldBoard.length; i++) {
+			int[] oldRow = oldBoard[i];
+			int[] newRow = newBoard[i];
+			for(int j = 0; j < cols; j++) {
+				if(oldRow[j] != newRow[j]) {
+					hash = update(hash, (i * cols) + j, oldRow[j], newRow[j]);
+				}
+			}
+		}
+		return hash;
+	}
+
+
+	/**
+	 * Helper method to scramble the bits of a long (SplitMix64's finalizer)
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+
+	// --------------------------------- Basic Getters and Setters --------------------------------- //
+
+
+	/**
+	 * Getter for the number of cells
+	 *
+	 * @return int - number of cells the hash has keys for
+	 */
+	public int getNumCells() {
+		return this.keys.length;
+	}
+
+}